@@ -3,9 +3,13 @@ package seedu.address;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
@@ -13,17 +17,19 @@ import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.ClubTrackListManager;
+import seedu.address.logic.CommandQueue;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.ClubTrack;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyClubTrack;
-import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.ClubTrackStorage;
-import seedu.address.storage.JsonClubTrackStorage;
+import seedu.address.storage.JournalClubTrackStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
@@ -38,41 +44,78 @@ public class MainApp extends Application {
 
     public static final Version VERSION = new Version(1, 5, 0, true);
 
+    public static final String MESSAGE_DATA_LOADED = "Loaded %1$d members from %2$s.";
+    public static final String MESSAGE_DATA_LOAD_FAILED =
+            "Could not load members from %1$s: %2$s. Commands are disabled; restart ClubTrack to try again.";
+
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
+    private static final Path DEFAULT_USER_PREFS_FILE = new Config().getUserPrefsFilePath();
+
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
     protected Model model;
     protected Config config;
 
+    /** Reads the settings files and the data file in the background during startup. */
+    private final ExecutorService startupExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "clubtrack-startup");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private CompletableFuture<ReadOnlyClubTrack> dataLoad;
+    private CommandQueue commandQueue;
+    private long launchNanos;
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing ClubTrack ]===========================");
         super.init();
+        launchNanos = System.nanoTime();
 
         AppParameters appParameters = AppParameters.parse(getParameters());
+        // The preferences file is almost always at its default path, so it is read alongside the config file and
+        // only read again if the config names another file.
+        CompletableFuture<UserPrefs> prefsAtDefaultPath = CompletableFuture.supplyAsync(() ->
+                initPrefs(new JsonUserPrefsStorage(DEFAULT_USER_PREFS_FILE)), startupExecutor);
         config = initConfig(appParameters.getConfigPath());
         initLogging(config);
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
-        UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        ClubTrackStorage clubTrackStorage = new JsonClubTrackStorage(userPrefs.getClubTrackFilePath());
+        UserPrefs userPrefs = isSameFile(DEFAULT_USER_PREFS_FILE, config.getUserPrefsFilePath())
+                ? prefsAtDefaultPath.join()
+                : initPrefs(userPrefsStorage);
+        long settingsReadMillis = millisSince(launchNanos);
+
+        ClubTrackStorage clubTrackStorage = new JournalClubTrackStorage(userPrefs.getClubTrackFilePath());
         storage = new StorageManager(clubTrackStorage, userPrefsStorage);
 
-        model = initModelManager(storage, userPrefs);
-        logic = new LogicManager(model, storage);
+        // The data file is read while the window is being built, and only shown once the window is up, so the
+        // time to the first window does not depend on the size of the data file.
+        dataLoad = CompletableFuture.supplyAsync(() -> loadClubTrack(storage), startupExecutor);
+        startupExecutor.execute(() -> saveSettingsIfChanged(config, appParameters.getConfigPath(), userPrefs));
+        startupExecutor.shutdown();
+
+        model = new ModelManager(new ClubTrack(), userPrefs, config.getUndoHistoryMaxBytes());
+        logic = new LogicManager(model, storage, new ClubTrackListManager(storage,
+                config.getListCacheMaxEntries(), config.getListCacheMaxBytes()));
+        logic.startLoading();
+        commandQueue = new CommandQueue(logic, Platform::runLater);
 
-        ui = new UiManager(logic);
+        ui = new UiManager(logic, commandQueue);
+        logger.info("Startup: settings read in " + settingsReadMillis + " ms, initialized in "
+                + millisSince(launchNanos) + " ms");
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
-     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
-     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * Returns the data from {@code storage}'s data file. <br>
+     * The sample data will be used instead if {@code storage}'s data file is not found,
+     * or an empty clubtrack will be used instead if errors occur when reading {@code storage}'s data file.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+    private ReadOnlyClubTrack loadClubTrack(Storage storage) {
         logger.info("Using data file : " + storage.getClubTrackFilePath());
+        long startNanos = System.nanoTime();
 
         Optional<ReadOnlyClubTrack> addressBookOptional;
         ReadOnlyClubTrack initialData;
@@ -81,15 +124,33 @@ public class MainApp extends Application {
             if (!addressBookOptional.isPresent()) {
                 logger.info("Creating a new data file " + storage.getClubTrackFilePath()
                         + " populated with a sample clubtrack.");
+                initialData = SampleDataUtil.getSampleAddressBook();
+                saveSampleData(storage, initialData);
+            } else {
+                initialData = addressBookOptional.get();
             }
-            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
         } catch (DataLoadingException e) {
             logger.warning("Data file at " + storage.getClubTrackFilePath() + " could not be loaded."
                     + " Will be starting with an empty clubtrack.");
             initialData = new ClubTrack();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        logger.info("Startup: read and validated " + initialData.getPersonList().size() + " members in "
+                + millisSince(startNanos) + " ms");
+        return initialData;
+    }
+
+    /**
+     * Writes the sample data to {@code storage}'s data file right away, since commands only save after
+     * they modify the data.
+     */
+    private void saveSampleData(Storage storage, ReadOnlyClubTrack sampleData) {
+        try {
+            storage.saveClubTrack(sampleData);
+        } catch (IOException e) {
+            logger.warning("Could not save sample data to " + storage.getClubTrackFilePath() + ": "
+                    + StringUtil.getDetails(e));
+        }
     }
 
     private void initLogging(Config config) {
@@ -125,13 +186,6 @@ public class MainApp extends Application {
                     + " Using default config properties.");
             initializedConfig = new Config();
         }
-
-        //Update config file in case it was missing to begin with or there are new/unused fields
-        try {
-            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
-        } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
-        }
         return initializedConfig;
     }
 
@@ -156,28 +210,81 @@ public class MainApp extends Application {
                     + " Using default preferences.");
             initializedPrefs = new UserPrefs();
         }
+        return initializedPrefs;
+    }
 
-        //Update prefs file in case it was missing to begin with or there are new/unused fields
+    /**
+     * Writes {@code config} and {@code userPrefs} back to their files if the files were missing, could not be
+     * loaded, or have new or unused fields. Files that are already up to date are left untouched.
+     */
+    private void saveSettingsIfChanged(Config config, Path configFilePath, UserPrefs userPrefs) {
+        Path configFilePathUsed = configFilePath != null ? configFilePath : Config.DEFAULT_CONFIG_FILE;
         try {
-            storage.saveUserPrefs(initializedPrefs);
+            if (ConfigUtil.saveConfigIfChanged(config, configFilePathUsed)) {
+                logger.info("Updated config file " + configFilePathUsed);
+            }
         } catch (IOException e) {
             logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
         }
-
-        return initializedPrefs;
+        try {
+            if (storage.saveUserPrefsIfChanged(userPrefs)) {
+                logger.info("Updated preference file " + storage.getUserPrefsFilePath());
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to save preference file : " + StringUtil.getDetails(e));
+        }
     }
 
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting ClubTrack " + MainApp.VERSION);
         ui.start(primaryStage);
+        logger.info("Startup: window shown " + millisSince(launchNanos) + " ms after launch");
+
+        dataLoad.whenComplete((loadedData, error) -> Platform.runLater(() -> showLoadedData(loadedData, error)));
+    }
+
+    /**
+     * Hands the data read at startup to the logic and the UI, or reports why it could not be read. In the latter
+     * case, commands stay disabled so that nothing is saved over the data file.
+     */
+    private void showLoadedData(ReadOnlyClubTrack loadedData, Throwable error) {
+        if (error != null) {
+            Throwable cause = error.getCause() != null ? error.getCause() : error;
+            logger.severe("Failed to load data " + StringUtil.getDetails(cause));
+            ui.showDataLoaded(String.format(MESSAGE_DATA_LOAD_FAILED, storage.getClubTrackFilePath(),
+                    cause.getMessage()));
+            return;
+        }
+        commandQueue.submit(() -> {
+            logic.finishLoading(loadedData);
+            return null;
+        }).thenRun(() -> {
+            ui.showDataLoaded(String.format(MESSAGE_DATA_LOADED, loadedData.getPersonList().size(),
+                    storage.getClubTrackFilePath()));
+            logger.info("Startup: data shown " + millisSince(launchNanos) + " ms after launch");
+        });
+    }
+
+    private static boolean isSameFile(Path first, Path second) {
+        return first.toAbsolutePath().normalize().equals(second.toAbsolutePath().normalize());
+    }
+
+    private static long millisSince(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping ClubTrack ] =============================");
+        commandQueue.shutdown(LogicManager.FLUSH_TIMEOUT_MILLIS);
+        try {
+            logic.shutdown();
+        } catch (CommandException e) {
+            logger.severe("Failed to save data before exiting " + StringUtil.getDetails(e));
+        }
         try {
-            storage.saveUserPrefs(model.getUserPrefs());
+            storage.saveUserPrefsIfChanged(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
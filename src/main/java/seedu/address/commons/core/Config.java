@@ -13,10 +13,16 @@ import seedu.address.commons.util.ToStringBuilder;
 public class Config {
 
     public static final Path DEFAULT_CONFIG_FILE = Paths.get("config.json");
+    public static final int DEFAULT_LIST_CACHE_MAX_ENTRIES = 8;
+    public static final long DEFAULT_LIST_CACHE_MAX_BYTES = 64L * 1024 * 1024;
+    public static final long DEFAULT_UNDO_HISTORY_MAX_BYTES = 16L * 1024 * 1024;
 
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private int listCacheMaxEntries = DEFAULT_LIST_CACHE_MAX_ENTRIES;
+    private long listCacheMaxBytes = DEFAULT_LIST_CACHE_MAX_BYTES;
+    private long undoHistoryMaxBytes = DEFAULT_UNDO_HISTORY_MAX_BYTES;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +40,39 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns the maximum number of recently used lists kept in memory for fast switching.
+     */
+    public int getListCacheMaxEntries() {
+        return listCacheMaxEntries;
+    }
+
+    public void setListCacheMaxEntries(int listCacheMaxEntries) {
+        this.listCacheMaxEntries = listCacheMaxEntries;
+    }
+
+    /**
+     * Returns the maximum estimated memory, in bytes, used by the recently used lists kept in memory.
+     */
+    public long getListCacheMaxBytes() {
+        return listCacheMaxBytes;
+    }
+
+    public void setListCacheMaxBytes(long listCacheMaxBytes) {
+        this.listCacheMaxBytes = listCacheMaxBytes;
+    }
+
+    /**
+     * Returns the maximum estimated memory, in bytes, used by the earlier versions of the data kept for undo.
+     */
+    public long getUndoHistoryMaxBytes() {
+        return undoHistoryMaxBytes;
+    }
+
+    public void setUndoHistoryMaxBytes(long undoHistoryMaxBytes) {
+        this.undoHistoryMaxBytes = undoHistoryMaxBytes;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +86,16 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && listCacheMaxEntries == otherConfig.listCacheMaxEntries
+                && listCacheMaxBytes == otherConfig.listCacheMaxBytes
+                && undoHistoryMaxBytes == otherConfig.undoHistoryMaxBytes;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, listCacheMaxEntries, listCacheMaxBytes,
+                undoHistoryMaxBytes);
     }
 
     @Override
@@ -60,6 +103,9 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("listCacheMaxEntries", listCacheMaxEntries)
+                .add("listCacheMaxBytes", listCacheMaxBytes)
+                .add("undoHistoryMaxBytes", undoHistoryMaxBytes)
                 .toString();
     }
 
@@ -20,4 +20,12 @@ public class ConfigUtil {
         JsonUtil.saveJsonFile(config, configFilePath);
     }
 
+    /**
+     * Saves {@code config} unless the file at {@code configFilePath} already holds it unchanged.
+     * Returns true if the file was written.
+     */
+    public static boolean saveConfigIfChanged(Config config, Path configFilePath) throws IOException {
+        return JsonUtil.saveJsonFileIfChanged(config, configFilePath);
+    }
+
 }
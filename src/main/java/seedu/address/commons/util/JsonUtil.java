@@ -15,6 +15,8 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -91,6 +93,41 @@ public class JsonUtil {
         serializeObjectToJsonFile(filePath, jsonFile);
     }
 
+    /**
+     * Saves the Json object to the specified file, unless the file already holds exactly the JSON that would be
+     * written.
+     * @param jsonFile cannot be null
+     * @param filePath cannot be null
+     * @return true if the file was written.
+     * @throws IOException if there was an error during reading or writing the file
+     */
+    public static <T> boolean saveJsonFileIfChanged(T jsonFile, Path filePath) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(jsonFile);
+
+        String json = toJsonString(jsonFile);
+        if (Files.exists(filePath) && json.equals(FileUtil.readFromFile(filePath))) {
+            return false;
+        }
+        FileUtil.writeToFile(filePath, json);
+        return true;
+    }
+
+    /**
+     * Returns a reusable reader that deserializes values of {@code type} with the same settings as this class.
+     * Readers are immutable and can be shared between threads.
+     */
+    public static ObjectReader readerFor(Class<?> type) {
+        return objectMapper.readerFor(type);
+    }
+
+    /**
+     * Returns a reusable writer that serializes values of {@code type} with the same settings as this class.
+     * Writers are immutable and can be shared between threads.
+     */
+    public static ObjectWriter writerFor(Class<?> type) {
+        return objectMapper.writerFor(type);
+    }
 
     /**
      * Converts a given string representation of a JSON data to instance of a class
@@ -111,6 +148,16 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation, on a single line
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance without any line breaks, in string
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -4,14 +4,13 @@ package seedu.address.logic;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
-import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -22,6 +21,7 @@ import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Points;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.JournalClubTrackStorage;
 import seedu.address.storage.Storage;
 
 /**
@@ -34,46 +34,82 @@ public class ClubTrackListManager {
 
     private static final Logger logger = LogsCenter.getLogger(ClubTrackListManager.class);
 
+    private static final Path DATA_DIR = Paths.get("data");
+
     private final Storage storage;
+    private final Path dataDir;
+    private final ListCache listCache;
+
+    /** Cross-list points index, loaded from the data directory on first use. */
+    private PointsIndex pointsIndex;
 
     public ClubTrackListManager(Storage storage) {
+        this(storage, Config.DEFAULT_LIST_CACHE_MAX_ENTRIES, Config.DEFAULT_LIST_CACHE_MAX_BYTES);
+    }
+
+    /**
+     * Constructs a {@code ClubTrackListManager} that keeps at most {@code maxCachedLists} recently used lists,
+     * of at most {@code maxCachedBytes} estimated bytes in total, in memory.
+     */
+    public ClubTrackListManager(Storage storage, int maxCachedLists, long maxCachedBytes) {
+        this(storage, DATA_DIR, new ListCache(maxCachedLists, maxCachedBytes));
+    }
+
+    /**
+     * Constructs a {@code ClubTrackListManager} that keeps list files in {@code dataDir}.
+     */
+    ClubTrackListManager(Storage storage, Path dataDir) {
+        this(storage, dataDir,
+                new ListCache(Config.DEFAULT_LIST_CACHE_MAX_ENTRIES, Config.DEFAULT_LIST_CACHE_MAX_BYTES));
+    }
+
+    private ClubTrackListManager(Storage storage, Path dataDir, ListCache listCache) {
         this.storage = storage;
+        this.dataDir = dataDir;
+        this.listCache = listCache;
     }
 
     /**
      * Switches the given model to use the list identified by {@code listName}.
      * If the corresponding file exists, it is loaded; otherwise a new empty file is created.
+     * Recently used lists whose files are unchanged are taken from memory instead of being read again.
      */
     public void switchToList(String listName, Model model) throws CommandException {
         requireNonNull(listName);
         requireNonNull(model);
 
-        Path filePath = Paths.get("data", listName + ".json");
+        Path filePath = getListPath(listName);
         try {
-            Optional<ReadOnlyClubTrack> data = storage.readClubTrack(filePath);
+            Optional<ReadOnlyClubTrack> cached = listCache.get(filePath);
+            Optional<ReadOnlyClubTrack> data = cached.isPresent() ? cached : storage.readClubTrack(filePath);
             if (data.isPresent()) {
                 model.setClubTrack(data.get());
+                if (!cached.isPresent()) {
+                    getPointsIndex().record(filePath, model.getClubTrack());
+                    listCache.put(filePath, model.getClubTrack());
+                }
             } else {
                 if (UserPrefs.DEFAULT_CLUBTRACK_NAME.equals(listName)) {
                     model.setClubTrack(SampleDataUtil.getSampleAddressBook());
                 } else {
                     model.setClubTrack(new ClubTrack());
                 }
-                storage.saveClubTrack(model.getClubTrack(), filePath);
+                saveList(model.getClubTrack(), filePath);
             }
             model.setClubTrackFilePath(filePath);
 
             // Lazy cumulative merge: accumulate points across all lists by member identity
-            Map<String, Integer> identityToTotalPoints = buildGlobalPointsIndex();
-            boolean changed = reconcilePointsWithTotals(model, identityToTotalPoints);
+            getPointsIndex().refresh(dataDir, storage);
+            boolean changed = reconcilePointsWithTotals(model);
             if (changed) {
-                storage.saveClubTrack(model.getClubTrack(), filePath);
+                saveList(model.getClubTrack(), filePath);
             }
+            savePointsIndex();
         } catch (DataLoadingException dle) {
             logger.warning("Failed to load list at " + filePath + ". Starting with empty list.");
             model.setClubTrack(new ClubTrack());
             try {
-                storage.saveClubTrack(model.getClubTrack(), filePath);
+                saveList(model.getClubTrack(), filePath);
             } catch (IOException ioe) {
                 throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
             }
@@ -83,45 +119,52 @@ public class ClubTrackListManager {
         }
     }
 
-    /** Builds a map of identity -> total points summed across all data/*.json lists. */
-    private Map<String, Integer> buildGlobalPointsIndex() {
-        Map<String, Integer> totals = new HashMap<>();
-        Path dataDir = Paths.get("data");
-        try (DirectoryStream<Path> stream = java.nio.file.Files.newDirectoryStream(dataDir, "*.json")) {
-            for (Path path : stream) {
-                try {
-                    Optional<ReadOnlyClubTrack> ro = storage.readClubTrack(path);
-                    if (ro.isEmpty()) {
-                        continue;
-                    }
-                    for (Person p : ro.get().getPersonList()) {
-                        String id = getIdentityKey(p);
-                        if (id == null) {
-                            continue;
-                        }
-                        totals.merge(id, p.getPoints().getValue(), Integer::sum);
-                    }
-                } catch (Exception e) {
-                    // Skip unreadable/malformed files; continue accumulating from others
-                    logger.fine("Skipping file during points index build: " + path + ", reason: " + e.getMessage());
-                }
-            }
+    /**
+     * Records that {@code data} was just saved to the list file at {@code filePath}, so that the cross-list
+     * points index does not need to read the file again.
+     */
+    public void onListSaved(ReadOnlyClubTrack data, Path filePath) {
+        requireNonNull(data);
+        requireNonNull(filePath);
+        getPointsIndex().record(filePath, data);
+        listCache.put(filePath, data);
+    }
+
+    private Path getListPath(String listName) {
+        return dataDir.resolve(listName + ".json");
+    }
+
+    private PointsIndex getPointsIndex() {
+        if (pointsIndex == null) {
+            pointsIndex = PointsIndex.load(dataDir.resolve(PointsIndex.FILE_NAME));
+        }
+        return pointsIndex;
+    }
+
+    private void savePointsIndex() {
+        try {
+            getPointsIndex().saveIfDirty(dataDir.resolve(PointsIndex.FILE_NAME));
         } catch (IOException ioe) {
-            // If data directory cannot be read, treat as zero totals
-            logger.fine("Unable to scan data directory for cumulative points: " + ioe.getMessage());
+            // The index is only a cache; it is rebuilt from file stamps on the next switch
+            logger.warning("Failed to save points index: " + ioe.getMessage());
         }
-        return totals;
     }
 
-    /** Reconciles current model's persons with provided totals; returns true if any points changed. */
-    private boolean reconcilePointsWithTotals(Model model, Map<String, Integer> totals) {
+    private void saveList(ReadOnlyClubTrack data, Path filePath) throws IOException {
+        storage.saveClubTrack(data, filePath);
+        getPointsIndex().record(filePath, data);
+        listCache.put(filePath, data);
+    }
+
+    /** Reconciles current model's persons with the indexed totals; returns true if any points changed. */
+    private boolean reconcilePointsWithTotals(Model model) {
         boolean changed = false;
         for (Person person : model.getClubTrack().getPersonList()) {
-            String id = getIdentityKey(person);
+            String id = PointsIndex.identityKeyOf(person);
             if (id == null) {
                 continue;
             }
-            Integer total = totals.get(id);
+            Integer total = getPointsIndex().getTotal(id);
             if (total == null) {
                 continue;
             }
@@ -144,23 +187,6 @@ public class ClubTrackListManager {
         return changed;
     }
 
-    /** Returns a stable identity key for a person: email preferred, else phone. */
-    private String getIdentityKey(Person p) {
-        if (p.getEmail() != null && p.getEmail().toString() != null) {
-            String email = p.getEmail().toString().trim();
-            if (!email.isEmpty()) {
-                return "E:" + email;
-            }
-        }
-        if (p.getPhone() != null && p.getPhone().toString() != null) {
-            String phone = p.getPhone().toString().trim();
-            if (!phone.isEmpty()) {
-                return "P:" + phone;
-            }
-        }
-        return null;
-    }
-
     /**
      * Removes the list file identified by {@code listName}. If it was the currently loaded list,
      * reverts the model to the default address book file without overwriting existing default data.
@@ -169,10 +195,10 @@ public class ClubTrackListManager {
         requireNonNull(listName);
         requireNonNull(model);
 
-        Path filePath = Paths.get("data", listName + ".json");
+        Path filePath = getListPath(listName);
 
         // Prevent removal of the default data file; this file must always exist.
-        Path defaultPath = UserPrefs.DEFAULT_CLUBTRACK_PATH;
+        Path defaultPath = getListPath(UserPrefs.DEFAULT_CLUBTRACK_NAME);
         if (filePath.equals(defaultPath)) {
             throw new CommandException("Cannot remove the default list '"
                     + UserPrefs.DEFAULT_CLUBTRACK_PATH.getFileName().toString() + "'.");
@@ -185,7 +211,11 @@ public class ClubTrackListManager {
                 throw new CommandException("List '" + listName + "' does not exist.");
             }
 
-            java.nio.file.Files.deleteIfExists(filePath);
+            Files.deleteIfExists(filePath);
+            Files.deleteIfExists(JournalClubTrackStorage.getJournalPath(filePath));
+            listCache.remove(filePath);
+            getPointsIndex().forget(filePath);
+            savePointsIndex();
             // If the removed list was the currently loaded one, revert to default
             if (filePath.equals(model.getClubTrackFilePath())) {
                 try {
@@ -194,7 +224,7 @@ public class ClubTrackListManager {
                         model.setClubTrack(defaultData.get());
                     } else {
                         model.setClubTrack(SampleDataUtil.getSampleAddressBook());
-                        storage.saveClubTrack(model.getClubTrack(), defaultPath);
+                        saveList(model.getClubTrack(), defaultPath);
                     }
                     model.setClubTrackFilePath(defaultPath);
                 } catch (DataLoadingException dle) {
@@ -0,0 +1,279 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.model.person.Person;
+
+/**
+ * Runs commands, and any other work that reads or changes the model, through a {@link Logic} on a single command
+ * thread, one at a time and in the order they were submitted. Parsing, model changes and list file operations thus
+ * never block the UI thread, and the model is only ever touched by one thread.
+ *
+ * The UI must not read the model directly while tasks may be running. Instead, after every task, the members shown,
+ * the attendance counts and the data file path are captured on the command thread and published to the UI thread.
+ * Only the changes made to the model's filtered list since the last capture are captured, and the UI thread applies
+ * just those to the displayed list. A capture that the UI thread has not picked up yet is merged with the next one,
+ * so a burst of commands updates the displayed list once.
+ */
+public class CommandQueue {
+
+    private static final Logger logger = LogsCenter.getLogger(CommandQueue.class);
+
+    private final Logic logic;
+    private final Executor uiThread;
+    private final ExecutorService commandThread = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "clubtrack-command");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Only used on the command thread
+    private List<ListDelta> uncapturedDeltas = new ArrayList<>();
+
+    // Guarded by this
+    private ModelView pending;
+
+    // Only used on the UI thread
+    private final DisplayedList displayedPersons;
+    private ModelView displayed;
+
+    /**
+     * Creates a {@code CommandQueue} that runs tasks through {@code logic} and hands their results and the updated
+     * model view to the UI through {@code uiThread}. Must be called before any task may change the model.
+     */
+    public CommandQueue(Logic logic, Executor uiThread) {
+        this.logic = requireNonNull(logic);
+        this.uiThread = requireNonNull(uiThread);
+        logic.getFilteredPersonList().addListener(this::recordDeltas);
+        displayedPersons = new DisplayedList(logic.getFilteredPersonList());
+        displayed = captureModelView();
+    }
+
+    /**
+     * Parses and executes {@code commandText} on the command thread after all tasks submitted before it.
+     * The returned future completes on the UI thread, after the model view it left behind has been published. It
+     * completes exceptionally with the {@code CommandException} or {@code ParseException} the command threw, if any.
+     *
+     * @see Logic#execute(String)
+     */
+    public CompletableFuture<CommandResult> execute(String commandText) {
+        requireNonNull(commandText);
+        return submit(() -> logic.execute(commandText));
+    }
+
+    /**
+     * Runs {@code task} on the command thread after all tasks submitted before it.
+     * The returned future completes on the UI thread with the result of {@code task}, after the model view it left
+     * behind has been published. It completes exceptionally with whatever {@code task} threw, errors included.
+     */
+    public <T> CompletableFuture<T> submit(Callable<T> task) {
+        requireNonNull(task);
+        CompletableFuture<T> future = new CompletableFuture<>();
+        commandThread.execute(() -> {
+            Runnable completion;
+            try {
+                T result = task.call();
+                completion = () -> future.complete(result);
+            } catch (Throwable e) {
+                completion = () -> future.completeExceptionally(e);
+            }
+            publish(captureModelView());
+            uiThread.execute(completion);
+        });
+        return future;
+    }
+
+    /**
+     * Stops accepting tasks and waits up to {@code timeoutMillis} for the tasks already submitted to finish.
+     * Must not be called on the command thread.
+     */
+    public void shutdown(long timeoutMillis) {
+        commandThread.shutdown();
+        try {
+            if (!commandThread.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                logger.warning("Timed out waiting for pending commands to finish");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warning("Interrupted while waiting for pending commands to finish");
+        }
+    }
+
+    /**
+     * Returns the members to display, as of the last published model view. Must only be used on the UI thread.
+     */
+    public ObservableList<Person> getDisplayedPersonList() {
+        return displayedPersons;
+    }
+
+    /** Returns the number of members marked present, as of the last published model view. */
+    public int getPresentCount() {
+        return displayed.presentCount;
+    }
+
+    /** Returns the number of members marked absent, as of the last published model view. */
+    public int getAbsentCount() {
+        return displayed.absentCount;
+    }
+
+    /** Returns the number of members whose attendance is unmarked, as of the last published model view. */
+    public int getUnmarkedCount() {
+        return displayed.unmarkedCount;
+    }
+
+    /** Returns the data file path, as of the last published model view. */
+    public Path getClubTrackFilePath() {
+        return displayed.clubTrackFilePath;
+    }
+
+    /**
+     * Records the sub-changes of {@code change} to the model's filtered list. Runs on the command thread.
+     */
+    private void recordDeltas(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            int from = change.getFrom();
+            if (change.wasPermutated() || change.wasUpdated()) {
+                int to = change.getTo();
+                uncapturedDeltas.add(new ListDelta(from, to - from, List.copyOf(change.getList().subList(from, to))));
+            } else {
+                uncapturedDeltas.add(new ListDelta(from, change.getRemovedSize(),
+                        List.copyOf(change.getAddedSubList())));
+            }
+        }
+    }
+
+    /**
+     * Captures what the UI shows of the model, with the changes to the filtered list since the last capture.
+     */
+    private ModelView captureModelView() {
+        List<ListDelta> deltas = uncapturedDeltas;
+        uncapturedDeltas = new ArrayList<>();
+        return new ModelView(deltas, logic.getPresentCount(), logic.getAbsentCount(), logic.getUnmarkedCount(),
+                logic.getClubTrackFilePath());
+    }
+
+    /**
+     * Hands {@code view} to the UI thread, merged with any view it has not picked up yet.
+     */
+    private void publish(ModelView view) {
+        boolean isApplyScheduled;
+        synchronized (this) {
+            isApplyScheduled = pending != null;
+            if (isApplyScheduled) {
+                view.deltas.addAll(0, pending.deltas);
+            }
+            pending = view;
+        }
+        if (!isApplyScheduled) {
+            uiThread.execute(this::applyPending);
+        }
+    }
+
+    /**
+     * Shows the latest published model view. Runs on the UI thread.
+     */
+    private void applyPending() {
+        ModelView view;
+        synchronized (this) {
+            view = pending;
+            pending = null;
+        }
+        displayedPersons.apply(view.deltas);
+        displayed = view;
+    }
+
+    /**
+     * A change to the filtered list: {@code removedCount} members at {@code from} were replaced by {@code added}.
+     */
+    private static class ListDelta {
+        private final int from;
+        private final int removedCount;
+        private final List<Person> added;
+
+        ListDelta(int from, int removedCount, List<Person> added) {
+            this.from = from;
+            this.removedCount = removedCount;
+            this.added = added;
+        }
+    }
+
+    /**
+     * The members shown by the UI. Read-only to everyone else, and only changed on the UI thread by applying deltas.
+     */
+    private static class DisplayedList extends ObservableListBase<Person> {
+        private final List<Person> persons;
+
+        DisplayedList(List<Person> persons) {
+            this.persons = new ArrayList<>(persons);
+        }
+
+        @Override
+        public Person get(int index) {
+            return persons.get(index);
+        }
+
+        @Override
+        public int size() {
+            return persons.size();
+        }
+
+        /**
+         * Applies {@code deltas} in order, reporting them to listeners as a single change.
+         */
+        void apply(List<ListDelta> deltas) {
+            if (deltas.isEmpty()) {
+                return;
+            }
+            beginChange();
+            for (ListDelta delta : deltas) {
+                List<Person> replaced = persons.subList(delta.from, delta.from + delta.removedCount);
+                List<Person> removed = new ArrayList<>(replaced);
+                replaced.clear();
+                persons.addAll(delta.from, delta.added);
+                if (!removed.isEmpty()) {
+                    nextRemove(delta.from, removed);
+                }
+                if (!delta.added.isEmpty()) {
+                    nextAdd(delta.from, delta.from + delta.added.size());
+                }
+            }
+            endChange();
+        }
+    }
+
+    /**
+     * What the UI shows of the model at one point in time, and the changes to the displayed list that lead to it.
+     */
+    private static class ModelView {
+        private final List<ListDelta> deltas;
+        private final int presentCount;
+        private final int absentCount;
+        private final int unmarkedCount;
+        private final Path clubTrackFilePath;
+
+        ModelView(List<ListDelta> deltas, int presentCount, int absentCount, int unmarkedCount,
+                  Path clubTrackFilePath) {
+            this.deltas = deltas;
+            this.presentCount = presentCount;
+            this.absentCount = absentCount;
+            this.unmarkedCount = unmarkedCount;
+            this.clubTrackFilePath = clubTrackFilePath;
+        }
+    }
+}
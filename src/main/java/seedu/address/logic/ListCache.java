@@ -0,0 +1,132 @@
+package seedu.address.logic;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.model.ClubTrack;
+import seedu.address.model.ReadOnlyClubTrack;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Tag;
+
+/**
+ * Bounded cache of recently used lists, keyed by list file path.
+ * Each entry remembers the {@link ListFileStamp} of the file its data matches, and is dropped once the file changes,
+ * so a cached list is never older than the file on disk. When the cache holds more than the maximum number of lists
+ * or more than the maximum estimated number of bytes, the least recently used lists are evicted.
+ */
+class ListCache {
+
+    /** Rough per-member size of the model objects, excluding the characters of its fields. */
+    private static final long PERSON_OVERHEAD_BYTES = 512;
+
+    private final int maxEntries;
+    private final long maxBytes;
+    private final Map<Path, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+
+    /**
+     * Constructs a cache holding at most {@code maxEntries} lists with at most {@code maxBytes} estimated bytes.
+     * A limit of zero disables the cache.
+     */
+    ListCache(int maxEntries, long maxBytes) {
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Returns the cached data of the list file at {@code path}, if it is cached and the file is unchanged.
+     */
+    Optional<ReadOnlyClubTrack> get(Path path) {
+        Entry entry = entries.get(path);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (!entry.stamp.matches(path)) {
+            remove(path);
+            return Optional.empty();
+        }
+        return Optional.of(entry.data);
+    }
+
+    /**
+     * Caches {@code data} as the current contents of the list file at {@code path}.
+     * Nothing is cached if the file cannot be stamped or the data alone exceeds the byte limit.
+     */
+    void put(Path path, ReadOnlyClubTrack data) {
+        remove(path);
+        long bytes = estimateBytes(data);
+        if (maxEntries <= 0 || bytes > maxBytes) {
+            return;
+        }
+        ListFileStamp stamp;
+        try {
+            stamp = ListFileStamp.of(path);
+        } catch (IOException ioe) {
+            return;
+        }
+
+        // Copied so that later changes to the caller's data do not leak into the cache
+        entries.put(path, new Entry(stamp, new ClubTrack(data), bytes));
+        totalBytes += bytes;
+        Iterator<Entry> leastRecentlyUsed = entries.values().iterator();
+        while (entries.size() > maxEntries || totalBytes > maxBytes) {
+            totalBytes -= leastRecentlyUsed.next().bytes;
+            leastRecentlyUsed.remove();
+        }
+    }
+
+    /**
+     * Drops the cached data of the list file at {@code path}, if any.
+     */
+    void remove(Path path) {
+        Entry removed = entries.remove(path);
+        if (removed != null) {
+            totalBytes -= removed.bytes;
+        }
+    }
+
+    /** Returns the number of cached lists. */
+    int size() {
+        return entries.size();
+    }
+
+    /** Returns the total estimated size of the cached lists in bytes. */
+    long getTotalBytes() {
+        return totalBytes;
+    }
+
+    /**
+     * Returns an estimate of the memory used by the members of {@code data}.
+     */
+    static long estimateBytes(ReadOnlyClubTrack data) {
+        long bytes = 0;
+        for (Person person : data.getPersonList()) {
+            long chars = person.getName().fullName.length() + person.getPhone().value.length()
+                    + person.getEmail().value.length() + person.getAddress().value.length();
+            if (person.getFaculty() != null) {
+                chars += person.getFaculty().length();
+            }
+            for (Tag tag : person.getTags()) {
+                chars += tag.tagName.length();
+            }
+            bytes += PERSON_OVERHEAD_BYTES + 2 * chars;
+        }
+        return bytes;
+    }
+
+    private static class Entry {
+        private final ListFileStamp stamp;
+        private final ReadOnlyClubTrack data;
+        private final long bytes;
+
+        Entry(ListFileStamp stamp, ReadOnlyClubTrack data, long bytes) {
+            this.stamp = stamp;
+            this.data = data;
+            this.bytes = bytes;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.address.logic;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import seedu.address.storage.JournalClubTrackStorage;
+
+/**
+ * Modification stamp of a list file, used to tell whether the file changed since it was last read or written.
+ * A list file and its journal, if any, are stamped together as journaled saves leave the list file untouched.
+ */
+class ListFileStamp {
+
+    final long lastModified;
+    final long size;
+
+    ListFileStamp(long lastModified, long size) {
+        this.lastModified = lastModified;
+        this.size = size;
+    }
+
+    /**
+     * Returns the current stamp of the list file at {@code path}.
+     *
+     * @throws IOException if the file does not exist or its attributes cannot be read.
+     */
+    static ListFileStamp of(Path path) throws IOException {
+        long lastModified = Files.getLastModifiedTime(path).toMillis();
+        long size = Files.size(path);
+        Path journalPath = JournalClubTrackStorage.getJournalPath(path);
+        if (Files.exists(journalPath)) {
+            lastModified = Math.max(lastModified, Files.getLastModifiedTime(journalPath).toMillis());
+            size += Files.size(journalPath);
+        }
+        return new ListFileStamp(lastModified, size);
+    }
+
+    /**
+     * Returns true if the list file at {@code path} still carries this stamp.
+     */
+    boolean matches(Path path) {
+        try {
+            return equals(of(path));
+        } catch (IOException ioe) {
+            return false;
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof ListFileStamp)) {
+            return false;
+        }
+        ListFileStamp otherStamp = (ListFileStamp) other;
+        return lastModified == otherStamp.lastModified && size == otherStamp.size;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(lastModified) * 31 + Long.hashCode(size);
+    }
+}
@@ -23,6 +23,35 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Marks the data as still being loaded. Commands are rejected until {@link #finishLoading(ReadOnlyClubTrack)} is
+     * called, so that nothing is saved over the data file before it has been read.
+     */
+    void startLoading();
+
+    /**
+     * Replaces the model's data with the {@code loadedData} read at startup and starts accepting commands.
+     * The loaded data is not saved again, as it is what the data file already holds.
+     */
+    void finishLoading(ReadOnlyClubTrack loadedData);
+
+    /** Returns true if the data is still being loaded. */
+    boolean isLoading();
+
+    /**
+     * Saves any changes not yet saved, such as batched check-ins, then waits, for a bounded time, until all data saved
+     * by earlier commands has been written to disk.
+     * @throws CommandException If an earlier save failed or did not complete in time.
+     */
+    void flush() throws CommandException;
+
+    /**
+     * Flushes pending saves as in {@link #flush()} and releases the resources used for saving.
+     * No commands may be executed afterwards.
+     * @throws CommandException If an earlier save failed or did not complete in time.
+     */
+    void shutdown() throws CommandException;
+
     /**
      * Returns the AddressBook.
      *
@@ -33,6 +62,15 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of members */
     ObservableList<Person> getFilteredPersonList();
 
+    /** Returns the number of members in the current list marked present. */
+    int getPresentCount();
+
+    /** Returns the number of members in the current list marked absent. */
+    int getAbsentCount();
+
+    /** Returns the number of members in the current list whose attendance has not been marked. */
+    int getUnmarkedCount();
+
     /**
      * Returns the user prefs' address book file path.
      */
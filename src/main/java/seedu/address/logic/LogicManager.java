@@ -3,11 +3,14 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.time.Clock;
+import java.util.concurrent.Future;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.CheckInCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.RemoveCommand;
@@ -15,9 +18,11 @@ import seedu.address.logic.commands.SwitchCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.ClubTrackParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ClubTrackSnapshot;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyClubTrack;
 import seedu.address.model.person.Person;
+import seedu.address.storage.AsyncClubTrackSaver;
 import seedu.address.storage.Storage;
 
 /**
@@ -29,67 +34,261 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    public static final String MESSAGE_STILL_LOADING =
+            "Members are still being loaded from the data file. Please try again in a moment.";
+
+    /** Upper bound on how long {@link #flush()} waits for pending saves. */
+    public static final long FLUSH_TIMEOUT_MILLIS = 5000;
+
+    /** Number of check-ins after which their changes are saved. */
+    public static final int CHECK_IN_SAVE_BATCH_SIZE = 50;
+
+    /** Age of the oldest unsaved check-in after which the check-ins are saved, even if the batch is not full. */
+    public static final long CHECK_IN_SAVE_INTERVAL_MILLIS = 2000;
+
+    /** Recorded as the saved version after a save failed. No model version equals it, so the data is saved again. */
+    private static final long UNSAVED_VERSION = -1;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final ClubTrackParser clubTrackParser;
     private final ClubTrackListManager listManager;
+    private final AsyncClubTrackSaver saver;
+    private final Clock clock;
+    private final long checkInSaveIntervalMillis;
+
+    /** True while the data is being loaded at startup. Also read by the UI thread. */
+    private volatile boolean isLoading;
+    /** True if a save of the current list was submitted but not yet recorded in the list manager. */
+    private boolean hasUnrecordedSave;
+    /** Model data version that was last saved, or submitted for saving, or {@link #UNSAVED_VERSION}. */
+    private long savedVersion;
+    /** Number of check-ins since the data was last submitted for saving. */
+    private int unsavedCheckIns;
+    /** When the oldest of the {@link #unsavedCheckIns} was made. */
+    private long firstUnsavedCheckInMillis;
+    /** Save of the {@link #unsavedCheckIns} once the interval runs out, or null if none is scheduled. */
+    private Future<?> deferredCheckInSave;
+    /** Model data version saved by {@link #deferredCheckInSave}. Written on the writer thread. */
+    private volatile long deferredSavedVersion;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, new ClubTrackListManager(storage));
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, switching between lists
+     * through {@code listManager}.
+     */
+    public LogicManager(Model model, Storage storage, ClubTrackListManager listManager) {
+        this(model, storage, listManager, Clock.systemUTC(), CHECK_IN_SAVE_INTERVAL_MILLIS);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} that reads the time of check-ins from {@code clock} and saves check-ins at
+     * least every {@code checkInSaveIntervalMillis}.
+     */
+    LogicManager(Model model, Storage storage, ClubTrackListManager listManager, Clock clock,
+            long checkInSaveIntervalMillis) {
         this.model = model;
         this.storage = storage;
         clubTrackParser = new ClubTrackParser();
-        listManager = new ClubTrackListManager(storage);
+        this.listManager = listManager;
+        saver = new AsyncClubTrackSaver(storage);
+        this.clock = clock;
+        this.checkInSaveIntervalMillis = checkInSaveIntervalMillis;
+        savedVersion = model.getClubTrackVersion();
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
+        if (isLoading) {
+            throw new CommandException(MESSAGE_STILL_LOADING);
+        }
+
+        try {
+            saver.checkForFailure();
+        } catch (IOException ioe) {
+            // The failure is kept until the data is saved successfully, so try again before reporting it
+            savedVersion = UNSAVED_VERSION;
+            submitSave();
+            throw toCommandException(ioe);
+        }
+
         CommandResult commandResult;
         Command command = clubTrackParser.parseCommand(commandText);
 
         // Special handling for switch/remove commands because they affect which file is used on disk.
         if (command instanceof SwitchCommand) {
             SwitchCommand sc = (SwitchCommand) command;
+            // the list manager reads and writes list files directly, so pending saves must land first
+            flush();
             // execute to update model file path (SwitchCommand.execute may set model path)
             commandResult = command.execute(model);
             // Delegate file-level handling to the list manager
             listManager.switchToList(sc.getListName(), model);
+            // Earlier versions belong to the list switched away from, so they cannot be undone into this one
+            model.resetClubTrackHistory();
+            savedVersion = model.getClubTrackVersion();
             return commandResult;
         }
 
         if (command instanceof RemoveCommand) {
             RemoveCommand rc = (RemoveCommand) command;
+            flush();
             // run the command (returns confirmation message)
             commandResult = command.execute(model);
             // Delegate file-level handling to the list manager
             listManager.removeList(rc.getListName(), model);
+            model.resetClubTrackHistory();
+            savedVersion = model.getClubTrackVersion();
+            return commandResult;
+        }
+
+        // Default behaviour for regular commands: execute and, if the data changed, persist to the model's
+        // configured file path. The save itself happens on the writer thread from a snapshot, so the file size
+        // does not affect latency. Read-only commands leave the version unchanged and never touch the disk.
+        // Whatever the command changed, even if it then failed, becomes a single version for undo.
+        try {
+            commandResult = command.execute(model);
+        } finally {
+            model.commitClubTrack();
+        }
+        collectDeferredSave();
+        if (model.getClubTrackVersion() == savedVersion) {
             return commandResult;
         }
 
-        // Default behaviour for regular commands: execute and persist to the model's configured file path
-        commandResult = command.execute(model);
+        // Each save rewrites the whole file, so check-ins, which arrive in bursts at events, are saved in
+        // batches instead. Any other command, a flush or shutdown saves the check-ins still pending, and so does
+        // a deferred save once the interval runs out.
+        if (command instanceof CheckInCommand && !isCheckInBatchDue()) {
+            return commandResult;
+        }
+
+        submitSave();
+        return commandResult;
+    }
+
+    @Override
+    public void startLoading() {
+        isLoading = true;
+    }
+
+    @Override
+    public void finishLoading(ReadOnlyClubTrack loadedData) {
+        model.setClubTrack(loadedData);
+        model.resetClubTrackHistory();
+        savedVersion = model.getClubTrackVersion();
+        isLoading = false;
+    }
+
+    @Override
+    public boolean isLoading() {
+        return isLoading;
+    }
+
+    /**
+     * Counts a check-in that changed the data and returns true if the check-ins so far should now be saved.
+     */
+    private boolean isCheckInBatchDue() {
+        long now = clock.millis();
+        if (unsavedCheckIns == 0) {
+            firstUnsavedCheckInMillis = now;
+            deferredCheckInSave = saver.submitLater(this::takeDeferredSnapshot, getSavePath(),
+                    checkInSaveIntervalMillis);
+        }
+        unsavedCheckIns++;
+        return unsavedCheckIns >= CHECK_IN_SAVE_BATCH_SIZE
+                || now - firstUnsavedCheckInMillis >= checkInSaveIntervalMillis;
+    }
+
+    /**
+     * Returns a snapshot of the current data for {@link #deferredCheckInSave}. Called on the writer thread.
+     */
+    private ClubTrackSnapshot takeDeferredSnapshot() {
+        ClubTrackSnapshot snapshot = model.getClubTrackSnapshot();
+        deferredSavedVersion = snapshot.getVersion();
+        return snapshot;
+    }
+
+    /**
+     * Records the data saved by {@link #deferredCheckInSave} as saved, if that save was submitted by now.
+     */
+    private void collectDeferredSave() {
+        if (deferredCheckInSave == null || !deferredCheckInSave.isDone()) {
+            return;
+        }
+        // The future completing makes the version written on the writer thread visible here
+        savedVersion = deferredSavedVersion;
+        hasUnrecordedSave = model.getClubTrackFilePath() != null;
+        unsavedCheckIns = 0;
+        deferredCheckInSave = null;
+    }
+
+    /**
+     * Returns the model's file path, or the storage's default path if the model has none.
+     */
+    private Path getSavePath() {
+        Path currentPath = model.getClubTrackFilePath();
+        return currentPath != null ? currentPath : storage.getClubTrackFilePath();
+    }
+
+    /**
+     * Submits a snapshot of the current data to be saved to the model's file path, or to the storage's default
+     * path if the model has none.
+     */
+    private void submitSave() {
+        if (deferredCheckInSave != null) {
+            deferredCheckInSave.cancel(false);
+            deferredCheckInSave = null;
+        }
+        saver.submit(model.getClubTrackSnapshot(), getSavePath());
+        savedVersion = model.getClubTrackVersion();
+        hasUnrecordedSave = model.getClubTrackFilePath() != null;
+        unsavedCheckIns = 0;
+    }
+
+    @Override
+    public void flush() throws CommandException {
+        collectDeferredSave();
+        if (model.getClubTrackVersion() != savedVersion) {
+            submitSave();
+        }
+        try {
+            saver.flush(FLUSH_TIMEOUT_MILLIS);
+        } catch (IOException ioe) {
+            savedVersion = UNSAVED_VERSION;
+            throw toCommandException(ioe);
+        }
+        if (hasUnrecordedSave) {
+            listManager.onListSaved(model.getClubTrack(), model.getClubTrackFilePath());
+            hasUnrecordedSave = false;
+        }
+    }
 
+    @Override
+    public void shutdown() throws CommandException {
+        flush();
         try {
-            // If model has an explicit file path set (from user prefs), save to that path.
-            Path currentPath = model.getClubTrackFilePath();
-            if (currentPath != null) {
-                storage.saveClubTrack(model.getClubTrack(), currentPath);
-            } else {
-                storage.saveClubTrack(model.getClubTrack());
-            }
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            saver.shutdown(FLUSH_TIMEOUT_MILLIS);
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw toCommandException(ioe);
         }
+    }
 
-        return commandResult;
+    private static CommandException toCommandException(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage()), ioe);
+        }
+        return new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
     }
 
     @Override
@@ -102,6 +301,21 @@ public class LogicManager implements Logic {
         return model.getFilteredPersonList();
     }
 
+    @Override
+    public int getPresentCount() {
+        return model.getPresentCount();
+    }
+
+    @Override
+    public int getAbsentCount() {
+        return model.getAbsentCount();
+    }
+
+    @Override
+    public int getUnmarkedCount() {
+        return model.getUnmarkedCount();
+    }
+
     @Override
     public Path getAddressBookFilePath() {
         return model.getClubTrackFilePath();
@@ -0,0 +1,214 @@
+package seedu.address.logic;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyClubTrack;
+import seedu.address.model.person.Person;
+import seedu.address.storage.ClubTrackStorage;
+
+/**
+ * Persistent index of member points across all list files in the data directory.
+ * Points are recorded per list file and keyed by member identity (see {@link #identityKeyOf(Person)}).
+ * Each list entry remembers the modification stamp of the file it was built from, so only lists that changed
+ * on disk since they were last indexed have to be read again.
+ */
+class PointsIndex {
+
+    /** File name of the index sidecar inside the data directory. Does not match the {@code *.json} list glob. */
+    static final String FILE_NAME = ".points-index";
+
+    private static final Logger logger = LogsCenter.getLogger(PointsIndex.class);
+
+    private Map<String, ListEntry> lists = new HashMap<>();
+
+    @JsonIgnore
+    private final Map<String, Integer> totals = new HashMap<>();
+    @JsonIgnore
+    private final Map<String, Integer> listCounts = new HashMap<>();
+    @JsonIgnore
+    private boolean isDirty;
+
+    /**
+     * Returns the index stored at {@code indexFile}, or an empty index if it is missing or unreadable.
+     */
+    static PointsIndex load(Path indexFile) {
+        PointsIndex index;
+        try {
+            index = JsonUtil.readJsonFile(indexFile, PointsIndex.class).orElseGet(PointsIndex::new);
+        } catch (DataLoadingException e) {
+            logger.warning("Points index at " + indexFile + " could not be loaded. Rebuilding it.");
+            index = new PointsIndex();
+            index.isDirty = true;
+        }
+        index.lists.values().forEach(index::addToTotals);
+        return index;
+    }
+
+    /**
+     * Saves this index to {@code indexFile} if it changed since it was loaded or last saved.
+     * Nothing is written if the parent directory does not exist.
+     */
+    void saveIfDirty(Path indexFile) throws IOException {
+        Path parent = indexFile.getParent();
+        if (!isDirty || (parent != null && !Files.isDirectory(parent))) {
+            return;
+        }
+        JsonUtil.saveJsonFile(this, indexFile);
+        isDirty = false;
+    }
+
+    /**
+     * Brings the index up to date with the {@code *.json} list files in {@code dataDir}.
+     * Lists whose modification stamp is unchanged are kept as is, changed or new lists are re-read through
+     * {@code storage}, and entries of lists that no longer exist are dropped.
+     */
+    void refresh(Path dataDir, ClubTrackStorage storage) {
+        Set<String> seen = new HashSet<>();
+        if (Files.isDirectory(dataDir)) {
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(dataDir, "*.json")) {
+                for (Path path : stream) {
+                    String fileName = path.getFileName().toString();
+                    seen.add(fileName);
+                    ListEntry entry = lists.get(fileName);
+                    if (entry == null || !entry.matches(path)) {
+                        reindex(path, storage);
+                    }
+                }
+            } catch (IOException ioe) {
+                // If data directory cannot be read, keep the entries indexed so far
+                logger.fine("Unable to scan data directory for cumulative points: " + ioe.getMessage());
+                return;
+            }
+        }
+        for (String fileName : new HashSet<>(lists.keySet())) {
+            if (!seen.contains(fileName)) {
+                removeEntry(fileName);
+            }
+        }
+    }
+
+    /**
+     * Records {@code data} as the current contents of the list file at {@code listFile}.
+     */
+    void record(Path listFile, ReadOnlyClubTrack data) {
+        ListEntry entry = new ListEntry();
+        entry.stamp(listFile);
+        for (Person person : data.getPersonList()) {
+            String id = identityKeyOf(person);
+            if (id != null) {
+                entry.points.merge(id, person.getPoints().getValue(), Integer::sum);
+            }
+        }
+        removeEntry(listFile.getFileName().toString());
+        lists.put(listFile.getFileName().toString(), entry);
+        addToTotals(entry);
+        isDirty = true;
+    }
+
+    /**
+     * Drops the entry of the list file at {@code listFile}, if any.
+     */
+    void forget(Path listFile) {
+        removeEntry(listFile.getFileName().toString());
+    }
+
+    /**
+     * Returns the total points of the member with identity key {@code id} across all indexed lists,
+     * or {@code null} if the member does not appear in any of them.
+     */
+    Integer getTotal(String id) {
+        return totals.get(id);
+    }
+
+    /** Returns a stable identity key for a person: email preferred, else phone. */
+    static String identityKeyOf(Person p) {
+        if (p.getEmail() != null && p.getEmail().toString() != null) {
+            String email = p.getEmail().toString().trim();
+            if (!email.isEmpty()) {
+                return "E:" + email;
+            }
+        }
+        if (p.getPhone() != null && p.getPhone().toString() != null) {
+            String phone = p.getPhone().toString().trim();
+            if (!phone.isEmpty()) {
+                return "P:" + phone;
+            }
+        }
+        return null;
+    }
+
+    private void reindex(Path path, ClubTrackStorage storage) {
+        try {
+            Optional<ReadOnlyClubTrack> ro = storage.readClubTrack(path);
+            if (ro.isPresent()) {
+                record(path, ro.get());
+                return;
+            }
+        } catch (Exception e) {
+            // Skip unreadable/malformed files; continue accumulating from others
+            logger.fine("Skipping file during points index refresh: " + path + ", reason: " + e.getMessage());
+        }
+        removeEntry(path.getFileName().toString());
+    }
+
+    private void removeEntry(String fileName) {
+        ListEntry removed = lists.remove(fileName);
+        if (removed == null) {
+            return;
+        }
+        removed.points.forEach((id, value) -> {
+            totals.merge(id, -value, Integer::sum);
+            if (listCounts.merge(id, -1, Integer::sum) == 0) {
+                listCounts.remove(id);
+                totals.remove(id);
+            }
+        });
+        isDirty = true;
+    }
+
+    private void addToTotals(ListEntry entry) {
+        entry.points.forEach((id, value) -> {
+            totals.merge(id, value, Integer::sum);
+            listCounts.merge(id, 1, Integer::sum);
+        });
+    }
+
+    /**
+     * Points of a single list file, together with the modification stamp of the file they were read from.
+     */
+    static class ListEntry {
+        private long lastModified = -1;
+        private long size = -1;
+        private Map<String, Integer> points = new HashMap<>();
+
+        /** Returns true if the file at {@code path} still carries the stamp recorded in this entry. */
+        boolean matches(Path path) {
+            return new ListFileStamp(lastModified, size).matches(path);
+        }
+
+        void stamp(Path path) {
+            try {
+                ListFileStamp stamp = ListFileStamp.of(path);
+                lastModified = stamp.lastModified;
+                size = stamp.size;
+            } catch (IOException ioe) {
+                lastModified = -1;
+                size = -1;
+            }
+        }
+    }
+}
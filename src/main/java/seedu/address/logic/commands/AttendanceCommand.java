@@ -6,7 +6,8 @@ import static seedu.address.model.Model.PREDICATE_SHOW_PRESENT_PERSONS;
 import seedu.address.model.Model;
 
 /**
- * Lists all persons who are marked as present.
+ * Lists all persons who are marked as present. The present persons are read from the model's attendance bitmap rather
+ * than found by testing every person.
  */
 public class AttendanceCommand extends Command {
 
@@ -20,7 +21,7 @@ public class AttendanceCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(PREDICATE_SHOW_PRESENT_PERSONS);
+        model.updateFilteredPersonList(PREDICATE_SHOW_PRESENT_PERSONS, model.getPresentPersons());
         return new CommandResult(MESSAGE_SUCCESS);
     }
 }
@@ -0,0 +1,132 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+
+/**
+ * Marks a member as present, identified by email or phone number rather than by displayed index, so that members can
+ * be checked in without first finding them in the list. Without a member, switches the command box to check-in mode,
+ * in which every line entered is checked in.
+ */
+public class CheckInCommand extends Command {
+
+    public static final String COMMAND_WORD = "checkin";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Marks the member with the given email or phone number as present.\n"
+            + "Without parameters, starts check-in mode, in which each email or phone number entered is checked in "
+            + "until Esc is pressed.\n"
+            + "Parameters: [EMAIL or PHONE]\n"
+            + "Example: " + COMMAND_WORD + " johnd@example.com";
+
+    public static final String MESSAGE_CHECK_IN_SUCCESS = "Checked in '%1$s'.";
+    public static final String MESSAGE_ALREADY_CHECKED_IN = "'%1$s' is already checked in.";
+    public static final String MESSAGE_MEMBER_NOT_FOUND = "No member has the email or phone number %1$s.";
+    public static final String MESSAGE_MODE_STARTED =
+            "Check-in mode: enter an email or phone number to check a member in. Press Esc to leave.";
+    public static final String MESSAGE_MODE_ENDED = "Left check-in mode.";
+
+    private final Email email;
+    private final Phone phone;
+
+    /**
+     * Creates a CheckInCommand that starts check-in mode.
+     */
+    public CheckInCommand() {
+        this.email = null;
+        this.phone = null;
+    }
+
+    /**
+     * Creates a CheckInCommand for the member with the given email.
+     */
+    public CheckInCommand(Email email) {
+        this.email = requireNonNull(email);
+        this.phone = null;
+    }
+
+    /**
+     * Creates a CheckInCommand for the member with the given phone number.
+     */
+    public CheckInCommand(Phone phone) {
+        this.email = null;
+        this.phone = requireNonNull(phone);
+    }
+
+    /**
+     * Executes the check-in: looks the member up through the model's email or phone index and marks them present.
+     * Checking in a member who is already present changes nothing.
+     *
+     * @throws CommandException if no member has the given email or phone number.
+     */
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (email == null && phone == null) {
+            return new CommandResult(MESSAGE_MODE_STARTED, false, false, true);
+        }
+
+        Optional<Person> found = email != null ? model.findPersonByEmail(email) : model.findPersonByPhone(phone);
+        if (found.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_MEMBER_NOT_FOUND, email != null ? email : phone));
+        }
+
+        Person personToCheckIn = found.get();
+        if (Boolean.TRUE.equals(personToCheckIn.isPresent())) {
+            return new CommandResult(String.format(MESSAGE_ALREADY_CHECKED_IN, personToCheckIn.getName()));
+        }
+
+        Person checkedInPerson = new Person(
+            personToCheckIn.getName(),
+            personToCheckIn.getPhone(),
+            personToCheckIn.getEmail(),
+            personToCheckIn.getYearOfStudy(),
+            personToCheckIn.getFaculty(),
+            personToCheckIn.getAddress(),
+            personToCheckIn.getTags(),
+            true,
+            personToCheckIn.getPoints()
+        );
+
+        model.setPerson(personToCheckIn, checkedInPerson);
+        return new CommandResult(String.format(MESSAGE_CHECK_IN_SUCCESS, personToCheckIn.getName()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof CheckInCommand)) {
+            return false;
+        }
+
+        CheckInCommand otherCommand = (CheckInCommand) other;
+        return Objects.equals(email, otherCommand.email)
+                && Objects.equals(phone, otherCommand.phone);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(email, phone);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("email", email)
+                .add("phone", phone)
+                .toString();
+    }
+}
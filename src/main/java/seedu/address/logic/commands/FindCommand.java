@@ -2,9 +2,13 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Optional;
+import java.util.Set;
+
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.predicates.NameContainsKeywordsPredicate;
 
 /**
@@ -29,7 +33,12 @@ public class FindCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        Optional<Set<Person>> candidates = model.getSearchCandidates(predicate.getKeywords());
+        if (candidates.isPresent()) {
+            model.updateFilteredPersonList(predicate, candidates.get());
+        } else {
+            model.updateFilteredPersonList(predicate);
+        }
         int resultCount = model.getFilteredPersonList().size();
         if (resultCount == 0) {
             String message = "No members found! Please recheck your input keywords.\n"
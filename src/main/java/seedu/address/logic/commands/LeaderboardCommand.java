@@ -0,0 +1,87 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+
+/**
+ * Lists the members with the most points in the current list.
+ */
+public class LeaderboardCommand extends Command {
+
+    public static final String COMMAND_WORD = "leaderboard";
+
+    public static final int DEFAULT_SIZE = 10;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+        + ": Lists the members with the most points, " + DEFAULT_SIZE + " unless a number is given.\n"
+        + "Parameters: [N] (must be a positive integer)\n"
+        + "Example: " + COMMAND_WORD + " 5";
+
+    public static final String MESSAGE_SUCCESS = "Top %1$d members by points:";
+    public static final String MESSAGE_ENTRY = "%1$d. %2$s (%3$d points)";
+    public static final String MESSAGE_NO_MEMBERS = "There are no members to rank.";
+
+    private final int size;
+
+    /**
+     * Creates a LeaderboardCommand that lists up to {@code size} members.
+     *
+     * @param size Number of members to list (must be positive).
+     */
+    public LeaderboardCommand(int size) {
+        assert size > 0 : "Leaderboard size should be positive";
+        this.size = size;
+    }
+
+    /**
+     * Executes the leaderboard command. Members with equal points share a rank.
+     *
+     * @param model {@code Model} which the command should operate on.
+     * @return {@code CommandResult} listing the top members.
+     */
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<Person> top = model.getTopPersonsByPoints(size);
+        if (top.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_MEMBERS);
+        }
+
+        StringBuilder builder = new StringBuilder(String.format(MESSAGE_SUCCESS, top.size()));
+        int rank = 0;
+        int previousPoints = -1;
+        for (int i = 0; i < top.size(); i++) {
+            Person person = top.get(i);
+            int points = person.getPoints().getValue();
+            if (points != previousPoints) {
+                rank = i + 1;
+                previousPoints = points;
+            }
+            builder.append('\n').append(String.format(MESSAGE_ENTRY, rank, person.getName(), points));
+        }
+        return new CommandResult(builder.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof LeaderboardCommand)) {
+            return false;
+        }
+
+        LeaderboardCommand otherCommand = (LeaderboardCommand) other;
+        return size == otherCommand.size;
+    }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(size);
+    }
+}
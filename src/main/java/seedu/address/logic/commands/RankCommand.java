@@ -0,0 +1,81 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+
+/**
+ * Shows the rank by points of a member identified by index.
+ */
+public class RankCommand extends Command {
+
+    public static final String COMMAND_WORD = "rank";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+        + ": Shows the rank by points of the member identified by the index number.\n"
+        + "Parameters: INDEX (must be a positive integer)\n"
+        + "Example: " + COMMAND_WORD + " 1";
+
+    public static final String MESSAGE_SUCCESS = "Member '%1$s' is ranked %2$d of %3$d with %4$d points.";
+
+    private final Index targetIndex;
+
+    /**
+     * Creates a RankCommand for the member at the given index.
+     *
+     * @param targetIndex Index of the member in the filtered member list.
+     */
+    public RankCommand(Index targetIndex) {
+        requireNonNull(targetIndex);
+        this.targetIndex = targetIndex;
+    }
+
+    /**
+     * Executes the rank command. Members with equal points share a rank.
+     *
+     * @param model {@code Model} which the command should operate on.
+     * @return {@code CommandResult} that describes the member's rank.
+     * @throws CommandException If the target index is invalid (out of bounds).
+     */
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Person> lastShownList = model.getFilteredPersonList();
+
+        if (targetIndex.getZeroBased() >= lastShownList.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_MEMBER_DISPLAYED_INDEX);
+        }
+
+        Person person = lastShownList.get(targetIndex.getZeroBased());
+        return new CommandResult(String.format(MESSAGE_SUCCESS,
+            person.getName(),
+            model.getPointsRank(person),
+            model.getClubTrack().getPersonList().size(),
+            person.getPoints().getValue()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof RankCommand)) {
+            return false;
+        }
+
+        RankCommand otherCommand = (RankCommand) other;
+        return targetIndex.equals(otherCommand.targetIndex);
+    }
+
+    @Override
+    public int hashCode() {
+        return targetIndex.hashCode();
+    }
+}
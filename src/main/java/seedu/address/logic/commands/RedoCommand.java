@@ -0,0 +1,28 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Redoes the last command that was undone by {@link UndoCommand}.
+ */
+public class RedoCommand extends Command {
+
+    public static final String COMMAND_WORD = "redo";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Redoes the last command that was undone.\n"
+            + "Example: " + COMMAND_WORD;
+    public static final String MESSAGE_SUCCESS = "Redid the last undone change";
+    public static final String MESSAGE_FAILURE = "There are no undone changes to redo";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.canRedoClubTrack()) {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+        model.redoClubTrack();
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
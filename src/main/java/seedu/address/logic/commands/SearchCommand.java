@@ -2,10 +2,12 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.function.Predicate;
+import java.util.Optional;
+import java.util.Set;
 
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.predicates.TagsPredicate;
 
 /**
  * Filters and lists members in ClubTrack by tags only.
@@ -43,20 +45,21 @@ public class SearchCommand extends Command {
 
     private static final String MESSAGE_RESULT = "%d member(s) found";
 
-    private final Predicate<Person> predicate;
+    private final TagsPredicate predicate;
 
     /**
      * Constructs a {@code SearchCommand} with the given filtering {@code predicate}.
      *
      * @param predicate Predicate to filter the displayed member list. Must not be {@code null}.
      */
-    public SearchCommand(Predicate<Person> predicate) {
+    public SearchCommand(TagsPredicate predicate) {
         requireNonNull(predicate);
         this.predicate = requireNonNull(predicate);
     }
 
     /**
-     * Executes the command by updating the model's filtered member list with the provided predicate.
+     * Executes the command by updating the model's filtered member list to the members the predicate accepts,
+     * as looked up in the model's tag index.
      *
      * @param model The {@code Model} which the command operates on. Must not be {@code null}.
      * @return A {@code CommandResult} containing the number of members matched.
@@ -65,7 +68,12 @@ public class SearchCommand extends Command {
     public CommandResult execute(Model model) {
         assert predicate != null : "Predicate should not be null";
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        Optional<Set<Person>> matches = model.getTagMatches(predicate.getPrefixes(), predicate.isAny());
+        if (matches.isPresent()) {
+            model.updateFilteredPersonList(predicate, matches.get());
+        } else {
+            model.updateFilteredPersonList(predicate);
+        }
         int count = model.getFilteredPersonList().size();
         return new CommandResult(String.format(MESSAGE_RESULT, count));
     }
@@ -0,0 +1,29 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Undoes the last command that changed the address book data.
+ */
+public class UndoCommand extends Command {
+
+    public static final String COMMAND_WORD = "undo";
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Undoes the last command that changed the members of the current list.\n"
+            + "Example: " + COMMAND_WORD;
+    public static final String MESSAGE_SUCCESS = "Undid the last change";
+    public static final String MESSAGE_FAILURE = "There are no changes to undo";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.canUndoClubTrack()) {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+        model.undoClubTrack();
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
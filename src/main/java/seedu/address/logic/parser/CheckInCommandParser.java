@@ -0,0 +1,31 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.commands.CheckInCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a {@link CheckInCommand}.
+ */
+public class CheckInCommandParser implements Parser<CheckInCommand> {
+
+    /**
+     * Parses {@code args} as an email if it contains "@", or as a phone number otherwise. No arguments start
+     * check-in mode.
+     *
+     * @throws ParseException if the argument is not a valid email or phone number
+     */
+    @Override
+    public CheckInCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            return new CheckInCommand();
+        }
+        if (trimmedArgs.indexOf('@') >= 0) {
+            return new CheckInCommand(ParserUtil.parseEmail(trimmedArgs));
+        }
+        return new CheckInCommand(ParserUtil.parsePhone(trimmedArgs));
+    }
+}
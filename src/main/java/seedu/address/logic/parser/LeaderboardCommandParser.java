@@ -0,0 +1,33 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.LeaderboardCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a {@link LeaderboardCommand}.
+ */
+public class LeaderboardCommandParser implements Parser<LeaderboardCommand> {
+
+    /**
+     * Parses the optional number of members to list, which defaults to {@link LeaderboardCommand#DEFAULT_SIZE}.
+     *
+     * @throws ParseException if the argument is given but is not a positive integer
+     */
+    @Override
+    public LeaderboardCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            return new LeaderboardCommand(LeaderboardCommand.DEFAULT_SIZE);
+        }
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedArgs)) {
+            throw new ParseException(
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, LeaderboardCommand.MESSAGE_USAGE));
+        }
+        return new LeaderboardCommand(Integer.parseInt(trimmedArgs));
+    }
+}
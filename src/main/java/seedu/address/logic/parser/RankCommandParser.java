@@ -0,0 +1,24 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.RankCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a {@link RankCommand}.
+ */
+public class RankCommandParser implements Parser<RankCommand> {
+    @Override
+    public RankCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        try {
+            Index index = ParserUtil.parseIndex(args.trim());
+            return new RankCommand(index);
+        } catch (ParseException pe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RankCommand.MESSAGE_USAGE), pe);
+        }
+    }
+}
@@ -4,11 +4,9 @@ import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.List;
-import java.util.function.Predicate;
 
 import seedu.address.logic.commands.SearchCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
-import seedu.address.model.person.Person;
 import seedu.address.model.person.predicates.TagsPredicate;
 
 /**
@@ -47,7 +45,7 @@ public class SearchCommandParser implements Parser<SearchCommand> {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.MESSAGE_USAGE));
         }
 
-        Predicate<Person> predicate = new TagsPredicate(tagValues, false /* AND semantics */);
+        TagsPredicate predicate = new TagsPredicate(tagValues, false /* AND semantics */);
 
         return new SearchCommand(predicate);
     }
@@ -2,11 +2,18 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.PersistentPersonList;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonListEdits;
+import seedu.address.model.person.Phone;
 import seedu.address.model.person.UniquePersonList;
 
 /**
@@ -54,7 +61,34 @@ public class ClubTrack implements ReadOnlyClubTrack {
     public void resetData(ReadOnlyClubTrack newData) {
         requireNonNull(newData);
 
-        setPersons(newData.getPersonList());
+        if (newData instanceof ClubTrack) {
+            // Already known to be unique, so its indexes can be copied instead of checking every member again
+            persons.setPersons(((ClubTrack) newData).persons);
+        } else if (newData instanceof ClubTrackSnapshot) {
+            // Keeps sharing the snapshot's members, so that taking a snapshot again does not copy them
+            persons.setPersons(((ClubTrackSnapshot) newData).getPersons());
+        } else {
+            setPersons(newData.getPersonList());
+        }
+    }
+
+    /**
+     * Replaces the members with {@code persons}, which {@code edits} lead to or from, only touching the members that
+     * {@code edits} changed when the current members are at their other end.
+     *
+     * @see UniquePersonList#restore(PersistentPersonList, PersonListEdits)
+     */
+    public void restorePersons(PersistentPersonList persons, PersonListEdits edits) {
+        this.persons.restore(persons, edits);
+    }
+
+    /**
+     * Returns the changes made to the members since this method was last called.
+     *
+     * @see UniquePersonList#takeEdits()
+     */
+    public PersonListEdits takePersonEdits() {
+        return persons.takeEdits();
     }
 
     //// member-level operations
@@ -94,6 +128,86 @@ public class ClubTrack implements ReadOnlyClubTrack {
         persons.remove(key);
     }
 
+    /**
+     * Returns the members that may have a field containing any of {@code keywords}.
+     *
+     * @see UniquePersonList#searchCandidates(List)
+     */
+    public Optional<Set<Person>> searchCandidates(List<String> keywords) {
+        return persons.searchCandidates(keywords);
+    }
+
+    /**
+     * Returns the members with a tag starting with each of {@code prefixes}, or with any of them if {@code any}.
+     *
+     * @see UniquePersonList#tagMatches(Collection, boolean)
+     */
+    public Optional<Set<Person>> tagMatches(Collection<String> prefixes, boolean any) {
+        return persons.tagMatches(prefixes, any);
+    }
+
+    /**
+     * Returns the member with the given email, if any.
+     */
+    public Optional<Person> findByEmail(Email email) {
+        return persons.getByEmail(email);
+    }
+
+    /**
+     * Returns the member with the given phone number, if any.
+     */
+    public Optional<Person> findByPhone(Phone phone) {
+        return persons.getByPhone(phone);
+    }
+
+    /**
+     * Returns the number of members marked present.
+     */
+    public int getPresentCount() {
+        return persons.getPresentCount();
+    }
+
+    /**
+     * Returns the number of members marked absent.
+     */
+    public int getAbsentCount() {
+        return persons.getAbsentCount();
+    }
+
+    /**
+     * Returns the number of members whose attendance has not been marked.
+     */
+    public int getUnmarkedCount() {
+        return persons.getUnmarkedCount();
+    }
+
+    /**
+     * Returns the members marked present.
+     *
+     * @see UniquePersonList#presentPersons()
+     */
+    public Set<Person> presentPersons() {
+        return persons.presentPersons();
+    }
+
+    /**
+     * Returns the {@code n} members with the most points, most points first.
+     *
+     * @see UniquePersonList#topByPoints(int)
+     */
+    public List<Person> topByPoints(int n) {
+        return persons.topByPoints(n);
+    }
+
+    /**
+     * Returns the rank by points of {@code person}, which must be in the club. Members with equal points share a rank.
+     *
+     * @see UniquePersonList#rankByPoints(Person)
+     */
+    public int rankByPoints(Person person) {
+        return persons.rankByPoints(person);
+    }
+
     //// util methods
 
     @Override
@@ -108,6 +222,13 @@ public class ClubTrack implements ReadOnlyClubTrack {
         return persons.asUnmodifiableObservableList();
     }
 
+    /**
+     * Returns the current members as an immutable list that later changes to this {@code ClubTrack} leave untouched.
+     */
+    public PersistentPersonList getPersistentPersonList() {
+        return persons.asPersistentList();
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -127,4 +248,39 @@ public class ClubTrack implements ReadOnlyClubTrack {
     public int hashCode() {
         return persons.hashCode();
     }
+
+    /**
+     * Builds a {@code ClubTrack} from many members in time linear in their number.
+     * The members are checked for duplicates as they are added, and the built {@code ClubTrack} is filled in a single
+     * change to its member list.
+     */
+    public static class Builder {
+        private final UniquePersonList.Builder persons = new UniquePersonList.Builder();
+
+        /**
+         * Returns true if a member with the same identity as {@code person} has been added.
+         */
+        public boolean hasPerson(Person person) {
+            requireNonNull(person);
+            return persons.contains(person);
+        }
+
+        /**
+         * Adds a member.
+         * A member with the same identity must not have been added already.
+         */
+        public Builder addPerson(Person person) {
+            persons.add(person);
+            return this;
+        }
+
+        /**
+         * Returns a new {@code ClubTrack} with the added members, in the order they were added.
+         */
+        public ClubTrack build() {
+            ClubTrack clubTrack = new ClubTrack();
+            clubTrack.persons.setPersons(persons);
+            return clubTrack;
+        }
+    }
 }
@@ -0,0 +1,157 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.NoSuchElementException;
+
+import seedu.address.model.person.PersonListEdits;
+
+/**
+ * The versions of the address book data that undo and redo move between.
+ *
+ * Versions are kept as {@link ClubTrackSnapshot}s, which share the members they have in common, so each version only
+ * costs about as much memory as the members changed to reach it, except the oldest, which counts all its members.
+ * Once the estimated memory of all kept versions exceeds the maximum, the oldest versions are dropped. Moving to the
+ * previous or next version only moves a single version between two stacks. A limit of zero keeps no earlier versions,
+ * which disables undo.
+ *
+ * Each version also keeps the {@link PersonListEdits} that reached it, so that the model can be moved to the version
+ * before or after it by undoing or redoing just those.
+ */
+class ClubTrackHistory {
+
+    /** Rough size of a changed member, including the characters of its fields. */
+    static final long PERSON_BYTES = 512;
+    /** Rough size of a tree node copied to record a change. */
+    static final long NODE_BYTES = 40;
+
+    private final long maxBytes;
+    private final Deque<Version> undoStack = new ArrayDeque<>();
+    private final Deque<Version> redoStack = new ArrayDeque<>();
+    private Version current;
+    private long totalBytes;
+
+    /**
+     * Constructs a history holding {@code initial} only, which keeps earlier versions up to {@code maxBytes}
+     * estimated bytes.
+     */
+    ClubTrackHistory(long maxBytes, ClubTrackSnapshot initial) {
+        this.maxBytes = maxBytes;
+        reset(initial);
+    }
+
+    /**
+     * Records {@code snapshot}, reached by changing {@code changedPersons} members through {@code edits}, as the
+     * current version. {@code edits} may be null if they are not known. Versions that were undone are dropped, since
+     * they can no longer be redone.
+     */
+    void commit(ClubTrackSnapshot snapshot, int changedPersons, PersonListEdits edits) {
+        requireNonNull(snapshot);
+        totalBytes -= redoStack.stream().mapToLong(version -> version.bytes).sum();
+        redoStack.clear();
+        undoStack.push(current);
+        current = new Version(snapshot, edits, estimateBytes(changedPersons, snapshot.getPersons().size()));
+        totalBytes += current.bytes;
+        while (totalBytes > maxBytes && !undoStack.isEmpty()) {
+            totalBytes -= undoStack.removeLast().bytes;
+            // The version after the dropped one is now the oldest, so all of its members count
+            Version oldest = undoStack.isEmpty() ? current : undoStack.peekLast();
+            totalBytes -= oldest.bytes;
+            oldest.bytes = estimateBaseBytes(oldest.snapshot);
+            totalBytes += oldest.bytes;
+        }
+    }
+
+    boolean canUndo() {
+        return !undoStack.isEmpty();
+    }
+
+    boolean canRedo() {
+        return !redoStack.isEmpty();
+    }
+
+    /**
+     * Returns the edits that reached the current version from the one before it, or null if they are not known.
+     */
+    PersonListEdits getCurrentEdits() {
+        return current.edits;
+    }
+
+    /**
+     * Moves to the previous version and returns it.
+     *
+     * @throws NoSuchElementException if there is no previous version.
+     */
+    ClubTrackSnapshot undo() {
+        Version previous = undoStack.pop();
+        redoStack.push(current);
+        current = previous;
+        return current.snapshot;
+    }
+
+    /**
+     * Moves to the version last undone and returns it.
+     *
+     * @throws NoSuchElementException if no version was undone since the last commit.
+     */
+    ClubTrackSnapshot redo() {
+        Version next = redoStack.pop();
+        undoStack.push(current);
+        current = next;
+        return current.snapshot;
+    }
+
+    /**
+     * Drops all versions and starts over with {@code snapshot} as the only one.
+     */
+    void reset(ClubTrackSnapshot snapshot) {
+        requireNonNull(snapshot);
+        undoStack.clear();
+        redoStack.clear();
+        current = new Version(snapshot, null, estimateBaseBytes(snapshot));
+        totalBytes = current.bytes;
+    }
+
+    /**
+     * Returns the estimated memory of all kept versions.
+     */
+    long getTotalBytes() {
+        return totalBytes;
+    }
+
+    /**
+     * Returns the estimated memory a version holding {@code size} members takes beyond the version it was reached
+     * from by changing {@code changedPersons} members. Each change copies about one path of the tree holding the
+     * members, but never more than the whole tree.
+     */
+    static long estimateBytes(int changedPersons, int size) {
+        long pathLength = 2L * (Long.SIZE - Long.numberOfLeadingZeros(size + 1L));
+        long copiedNodes = Math.min(changedPersons * pathLength, size);
+        return changedPersons * PERSON_BYTES + copiedNodes * NODE_BYTES;
+    }
+
+    /**
+     * Returns the estimated memory {@code snapshot} takes when no other kept version shares its members.
+     */
+    private static long estimateBaseBytes(ClubTrackSnapshot snapshot) {
+        int size = snapshot.getPersons().size();
+        return estimateBytes(size, size);
+    }
+
+    /**
+     * A recorded version, the edits that reached it and the estimated memory it takes beyond the version before it.
+     */
+    private static class Version {
+        private final ClubTrackSnapshot snapshot;
+        private final PersonListEdits edits;
+        private long bytes;
+
+        Version(ClubTrackSnapshot snapshot, PersonListEdits edits, long bytes) {
+            this.snapshot = snapshot;
+            this.edits = edits;
+            this.bytes = bytes;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.PersistentPersonList;
+import seedu.address.model.person.Person;
+
+/**
+ * An immutable copy of the address book data as of one version of the model.
+ * Snapshots never change after they are taken, so any thread can read them without locking, even while the model
+ * goes on to newer versions. Consecutive snapshots share most of their members' storage, so taking one is cheap.
+ */
+public final class ClubTrackSnapshot implements ReadOnlyClubTrack {
+
+    private final long version;
+    private final PersistentPersonList persons;
+    private final ObservableList<Person> personList;
+
+    /**
+     * Constructs a snapshot of {@code persons} taken at the model version {@code version}.
+     */
+    public ClubTrackSnapshot(long version, PersistentPersonList persons) {
+        requireNonNull(persons);
+        this.version = version;
+        this.persons = persons;
+        this.personList = FXCollections.unmodifiableObservableList(FXCollections.observableList(persons.asList()));
+    }
+
+    /**
+     * Returns the model version this snapshot was taken at.
+     *
+     * @see Model#getClubTrackVersion()
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the members of this snapshot.
+     */
+    public PersistentPersonList getPersons() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return personList;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("version", version)
+                .add("size", persons.size())
+                .toString();
+    }
+}
@@ -1,11 +1,17 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.Email;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
 
 /**
  * The API of the Model component.
@@ -56,6 +62,52 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyClubTrack getClubTrack();
 
+    /**
+     * Returns a counter that is incremented every time the address book data is modified.
+     * Two calls returning the same value mean the data did not change in between.
+     */
+    long getClubTrackVersion();
+
+    /**
+     * Returns an immutable snapshot of the address book data as of the latest change.
+     * Unlike the other methods, this may be called from any thread, and never blocks or sees a change half done.
+     */
+    ClubTrackSnapshot getClubTrackSnapshot();
+
+    /**
+     * Records the current address book data as a version that undo can return to, if it changed since the last
+     * version recorded.
+     */
+    void commitClubTrack();
+
+    /**
+     * Returns true if there is an earlier recorded version of the address book data to return to.
+     */
+    boolean canUndoClubTrack();
+
+    /**
+     * Returns true if a version of the address book data was undone since the last version recorded.
+     */
+    boolean canRedoClubTrack();
+
+    /**
+     * Restores the address book data to the previous recorded version.
+     * There must be an earlier version to return to.
+     */
+    void undoClubTrack();
+
+    /**
+     * Restores the address book data to the version last undone.
+     * A version must have been undone since the last version recorded.
+     */
+    void redoClubTrack();
+
+    /**
+     * Forgets all recorded versions, so that the current address book data becomes the earliest version that undo can
+     * return to.
+     */
+    void resetClubTrackHistory();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -80,6 +132,62 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Returns the person with the given email, found in constant time without scanning the persons.
+     */
+    Optional<Person> findPersonByEmail(Email email);
+
+    /**
+     * Returns the person with the given phone number, found in constant time without scanning the persons.
+     */
+    Optional<Person> findPersonByPhone(Phone phone);
+
+    /**
+     * Returns the persons that may have a name, phone, email, address, faculty or year of study containing any of
+     * {@code keywords}, case-insensitively, or an empty {@code Optional} if the keywords cannot narrow down the
+     * persons. Each candidate must still be checked against the keywords.
+     */
+    Optional<Set<Person>> getSearchCandidates(List<String> keywords);
+
+    /**
+     * Returns the persons with a tag starting with each of {@code prefixes}, or with any of them if {@code any} is
+     * true, compared case-insensitively. These are the same persons that {@code TagsPredicate} accepts. Returns an
+     * empty {@code Optional} if there are no prefixes and every person matches.
+     */
+    Optional<Set<Person>> getTagMatches(Collection<String> prefixes, boolean any);
+
+    /**
+     * Returns the number of persons marked present, without scanning the persons.
+     */
+    int getPresentCount();
+
+    /**
+     * Returns the number of persons marked absent, without scanning the persons.
+     */
+    int getAbsentCount();
+
+    /**
+     * Returns the number of persons whose attendance has not been marked, without scanning the persons.
+     */
+    int getUnmarkedCount();
+
+    /**
+     * Returns the persons marked present, the same persons that {@link #PREDICATE_SHOW_PRESENT_PERSONS} accepts.
+     */
+    Set<Person> getPresentPersons();
+
+    /**
+     * Returns up to {@code n} persons with the most points, most points first. Persons with equal points are listed
+     * in the order they were added.
+     */
+    List<Person> getTopPersonsByPoints(int n);
+
+    /**
+     * Returns the rank by points of the given person, starting from 1 for the most points. Persons with equal points
+     * share a rank. The person must exist in the address book.
+     */
+    int getPointsRank(Person person);
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
@@ -88,4 +196,12 @@ public interface Model {
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
+
+    /**
+     * Updates the filter of the filtered person list to filter by the given {@code predicate}, testing only
+     * {@code candidates} among the current persons. {@code candidates} must include every current person that
+     * {@code predicate} accepts. Persons added or replaced later are tested as usual.
+     * @throws NullPointerException if {@code predicate} or {@code candidates} is null.
+     */
+    void updateFilteredPersonList(Predicate<Person> predicate, Set<Person> candidates);
 }
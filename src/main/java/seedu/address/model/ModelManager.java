@@ -4,29 +4,59 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import seedu.address.commons.core.Config;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.Email;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonListEdits;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.predicates.RefinablePredicate;
 
 /**
  * Represents the in-memory model of the address book data.
  */
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
+    private static final int MAX_CACHED_QUERIES = 8;
 
     private final ClubTrack clubTrack;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    private final QueryCache queryCache = new QueryCache(MAX_CACHED_QUERIES);
+    private Predicate<Person> activePredicate = PREDICATE_SHOW_ALL_PERSONS;
+    // Incremented before each change, so that filters tested during the change already see the new version
+    private long clubTrackVersion;
+    // Replaced after each change, so that other threads only ever see complete versions of the data
+    private volatile ClubTrackSnapshot snapshot;
+    private final ClubTrackHistory history;
+    // The version last recorded in the history, and the number of members changed since then
+    private long committedVersion;
+    private int uncommittedChanges;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
      */
     public ModelManager(ReadOnlyClubTrack addressBook, ReadOnlyUserPrefs userPrefs) {
+        this(addressBook, userPrefs, Config.DEFAULT_UNDO_HISTORY_MAX_BYTES);
+    }
+
+    /**
+     * Initializes a ModelManager with the given addressBook and userPrefs, which keeps earlier versions of the data
+     * for undo up to {@code undoHistoryMaxBytes} estimated bytes.
+     */
+    public ModelManager(ReadOnlyClubTrack addressBook, ReadOnlyUserPrefs userPrefs, long undoHistoryMaxBytes) {
         requireAllNonNull(addressBook, userPrefs);
 
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
@@ -34,6 +64,10 @@ public class ModelManager implements Model {
         this.clubTrack = new ClubTrack(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.clubTrack.getPersonList());
+        publishSnapshot();
+        history = new ClubTrackHistory(undoHistoryMaxBytes, snapshot);
+        // Loading the data is not a change that can be undone
+        clubTrack.takePersonEdits();
     }
 
     public ModelManager() {
@@ -79,7 +113,12 @@ public class ModelManager implements Model {
 
     @Override
     public void setClubTrack(ReadOnlyClubTrack addressBook) {
+        clubTrackVersion++;
+        // Every member of the old data and of the new data changes
+        int replacedPersons = Math.max(clubTrack.getPersonList().size(), addressBook.getPersonList().size());
         this.clubTrack.resetData(addressBook);
+        uncommittedChanges += replacedPersons;
+        publishSnapshot();
     }
 
     @Override
@@ -87,6 +126,77 @@ public class ModelManager implements Model {
         return clubTrack;
     }
 
+    @Override
+    public long getClubTrackVersion() {
+        return clubTrackVersion;
+    }
+
+    @Override
+    public ClubTrackSnapshot getClubTrackSnapshot() {
+        return snapshot;
+    }
+
+    private void publishSnapshot() {
+        snapshot = new ClubTrackSnapshot(clubTrackVersion, clubTrack.getPersistentPersonList());
+    }
+
+    @Override
+    public void commitClubTrack() {
+        if (clubTrackVersion == committedVersion) {
+            return;
+        }
+        history.commit(snapshot, uncommittedChanges, clubTrack.takePersonEdits());
+        committedVersion = clubTrackVersion;
+        uncommittedChanges = 0;
+    }
+
+    @Override
+    public boolean canUndoClubTrack() {
+        return history.canUndo();
+    }
+
+    @Override
+    public boolean canRedoClubTrack() {
+        return history.canRedo();
+    }
+
+    @Override
+    public void undoClubTrack() {
+        PersonListEdits undone = history.getCurrentEdits();
+        restoreClubTrack(history.undo(), undone);
+    }
+
+    @Override
+    public void redoClubTrack() {
+        ClubTrackSnapshot next = history.redo();
+        restoreClubTrack(next, history.getCurrentEdits());
+    }
+
+    @Override
+    public void resetClubTrackHistory() {
+        history.reset(snapshot);
+        clubTrack.takePersonEdits();
+        committedVersion = clubTrackVersion;
+        uncommittedChanges = 0;
+    }
+
+    /**
+     * Replaces the data with the recorded {@code version}, which stays the current version in the history. Only the
+     * members changed by {@code edits}, which lead to or from {@code version}, are replaced if they are known.
+     */
+    private void restoreClubTrack(ClubTrackSnapshot version, PersonListEdits edits) {
+        clubTrackVersion++;
+        if (edits == null) {
+            clubTrack.resetData(version);
+        } else {
+            clubTrack.restorePersons(version.getPersons(), edits);
+        }
+        publishSnapshot();
+        committedVersion = clubTrackVersion;
+        uncommittedChanges = 0;
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -95,12 +205,18 @@ public class ModelManager implements Model {
 
     @Override
     public void deletePerson(Person target) {
+        clubTrackVersion++;
         clubTrack.removePerson(target);
+        uncommittedChanges++;
+        publishSnapshot();
     }
 
     @Override
     public void addPerson(Person person) {
+        clubTrackVersion++;
         clubTrack.addPerson(person);
+        uncommittedChanges++;
+        publishSnapshot();
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
@@ -108,7 +224,65 @@ public class ModelManager implements Model {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
+        clubTrackVersion++;
         clubTrack.setPerson(target, editedPerson);
+        uncommittedChanges++;
+        publishSnapshot();
+    }
+
+    @Override
+    public Optional<Person> findPersonByEmail(Email email) {
+        requireNonNull(email);
+        return clubTrack.findByEmail(email);
+    }
+
+    @Override
+    public Optional<Person> findPersonByPhone(Phone phone) {
+        requireNonNull(phone);
+        return clubTrack.findByPhone(phone);
+    }
+
+    @Override
+    public Optional<Set<Person>> getSearchCandidates(List<String> keywords) {
+        requireNonNull(keywords);
+        return clubTrack.searchCandidates(keywords);
+    }
+
+    @Override
+    public Optional<Set<Person>> getTagMatches(Collection<String> prefixes, boolean any) {
+        requireNonNull(prefixes);
+        return clubTrack.tagMatches(prefixes, any);
+    }
+
+    @Override
+    public int getPresentCount() {
+        return clubTrack.getPresentCount();
+    }
+
+    @Override
+    public int getAbsentCount() {
+        return clubTrack.getAbsentCount();
+    }
+
+    @Override
+    public int getUnmarkedCount() {
+        return clubTrack.getUnmarkedCount();
+    }
+
+    @Override
+    public Set<Person> getPresentPersons() {
+        return clubTrack.presentPersons();
+    }
+
+    @Override
+    public List<Person> getTopPersonsByPoints(int n) {
+        return clubTrack.topByPoints(n);
+    }
+
+    @Override
+    public int getPointsRank(Person person) {
+        requireNonNull(person);
+        return clubTrack.rankByPoints(person);
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -125,7 +299,56 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        applyFilter(predicate, null);
+    }
+
+    @Override
+    public void updateFilteredPersonList(Predicate<Person> predicate, Set<Person> candidates) {
+        requireAllNonNull(predicate, candidates);
+        applyFilter(predicate, candidates);
+    }
+
+    /**
+     * Filters the list by {@code predicate}, testing as few persons as possible:
+     * <ul>
+     *   <li>If the list is already filtered by an equal predicate, nothing is done. The filtered list re-tests
+     *       each added or replaced person on its own, so it is still up to date.</li>
+     *   <li>If an equal predicate was applied since the data last changed, its cached matches are reused without
+     *       testing anyone.</li>
+     *   <li>Otherwise only {@code candidates} are tested. Without candidates, a {@link RefinablePredicate} that
+     *       narrows down the active predicate only tests the persons currently shown, and any other predicate tests
+     *       everyone. The matches are then cached.</li>
+     * </ul>
+     */
+    private void applyFilter(Predicate<Person> predicate, Set<Person> candidates) {
+        if (predicate.equals(activePredicate)) {
+            return;
+        }
+        Predicate<Person> previous = activePredicate;
+        activePredicate = predicate;
+        if (predicate == PREDICATE_SHOW_ALL_PERSONS) {
+            filteredPersons.setPredicate(predicate);
+            return;
+        }
+
+        Optional<Set<Person>> cached = queryCache.get(predicate, clubTrackVersion);
+        if (cached.isPresent()) {
+            logger.fine("Reusing cached matches for " + predicate);
+            filteredPersons.setPredicate(new SnapshotFilter(predicate, cached.get(), true));
+            return;
+        }
+
+        if (candidates == null && predicate instanceof RefinablePredicate
+                && ((RefinablePredicate) predicate).isRefinementOf(previous)) {
+            candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+            candidates.addAll(filteredPersons);
+        }
+        filteredPersons.setPredicate(candidates == null
+                ? predicate
+                : new SnapshotFilter(predicate, candidates, false));
+        Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        matches.addAll(filteredPersons);
+        queryCache.put(predicate, clubTrackVersion, matches);
     }
 
     @Override
@@ -145,4 +368,35 @@ public class ModelManager implements Model {
                 && filteredPersons.equals(otherModelManager.filteredPersons);
     }
 
+    /**
+     * Filters by a set of persons known to hold every match of a predicate, while the data is at the version the set
+     * was taken at. Persons added or replaced after that are tested against the predicate itself, so the filtered
+     * list stays correct as the data changes.
+     */
+    private class SnapshotFilter implements Predicate<Person> {
+        private final Predicate<Person> predicate;
+        private final Set<Person> persons;
+        private final boolean isExact;
+        private final long version;
+
+        /**
+         * Creates a filter for {@code predicate} over {@code persons}, which are exactly the matches of the predicate
+         * if {@code isExact}, or candidates that must still be tested otherwise.
+         */
+        SnapshotFilter(Predicate<Person> predicate, Set<Person> persons, boolean isExact) {
+            this.predicate = predicate;
+            this.persons = persons;
+            this.isExact = isExact;
+            this.version = clubTrackVersion;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            if (version != clubTrackVersion) {
+                return predicate.test(person);
+            }
+            return persons.contains(person) && (isExact || predicate.test(person));
+        }
+    }
+
 }
@@ -0,0 +1,69 @@
+package seedu.address.model;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Bounded cache of the persons matched by recent queries, keyed by the query predicate.
+ * All entries belong to one version of the address book data; looking up or caching a result for any other version
+ * first drops every entry, so a cached result is never older than the data. When the cache holds more than the
+ * maximum number of results, the least recently used results are evicted.
+ *
+ * Predicates are compared with {@code equals}, so only predicates that implement it by value get hits across
+ * separately created queries.
+ */
+class QueryCache {
+
+    private final int maxEntries;
+    private final Map<Predicate<Person>, Set<Person>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long version;
+
+    /**
+     * Constructs a cache holding the results of at most {@code maxEntries} queries.
+     */
+    QueryCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Returns the persons matched by {@code predicate} in version {@code version} of the data, if cached.
+     */
+    Optional<Set<Person>> get(Predicate<Person> predicate, long version) {
+        moveTo(version);
+        return Optional.ofNullable(entries.get(predicate));
+    }
+
+    /**
+     * Caches {@code matches} as the persons matched by {@code predicate} in version {@code version} of the data.
+     */
+    void put(Predicate<Person> predicate, long version, Set<Person> matches) {
+        moveTo(version);
+        if (maxEntries <= 0) {
+            return;
+        }
+        entries.put(predicate, matches);
+        Iterator<Set<Person>> leastRecentlyUsed = entries.values().iterator();
+        while (entries.size() > maxEntries) {
+            leastRecentlyUsed.next();
+            leastRecentlyUsed.remove();
+        }
+    }
+
+    /** Returns the number of cached results. */
+    int size() {
+        return entries.size();
+    }
+
+    private void moveTo(long newVersion) {
+        if (newVersion != version) {
+            entries.clear();
+            version = newVersion;
+        }
+    }
+}
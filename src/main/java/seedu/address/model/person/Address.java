@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.StringUtil.isAsciiWhitespace;
 
 /**
  * Represents a Person's address in the address book.
@@ -31,10 +32,21 @@ public class Address {
     }
 
     /**
-     * Returns true if a given string is a valid email.
+     * Returns true if a given string is a valid address.
+     * Equivalent to matching {@link #VALIDATION_REGEX}, but scans the string directly.
      */
     public static boolean isValidAddress(String test) {
-        return test.matches(VALIDATION_REGEX);
+        if (test.isEmpty() || isAsciiWhitespace(test.charAt(0))) {
+            return false;
+        }
+        // Any character but a line terminator may follow, as '.' does not match line terminators
+        for (int i = 1; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
@@ -0,0 +1,129 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Bitmaps of the slots of the present and absent persons, along with the number of persons in each, so that
+ * attendance can be counted in O(1) time and the present persons listed without testing every person. Persons in
+ * neither bitmap are unmarked.
+ *
+ * Each added person gets the next slot number. Removing a person only empties its slot; the bitmaps are rebuilt once
+ * empty slots outnumber the persons in the index.
+ */
+public class AttendanceIndex {
+
+    private static final int MIN_SLOTS_TO_COMPACT = 1024;
+
+    private final BitSet present = new BitSet();
+    private final BitSet absent = new BitSet();
+    private final Map<Person, Integer> slots = new IdentityHashMap<>();
+    private Person[] persons = new Person[16];
+    private int slotCount;
+    private int presentCount;
+    private int absentCount;
+
+    /**
+     * Adds {@code person}, setting its slot in the bitmap of its attendance if it has been marked.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        if (slotCount == persons.length) {
+            persons = Arrays.copyOf(persons, slotCount * 2);
+        }
+        int slot = slotCount++;
+        persons[slot] = person;
+        slots.put(person, slot);
+        Boolean isPresent = person.isPresent();
+        if (isPresent == null) {
+            return;
+        }
+        if (isPresent) {
+            present.set(slot);
+            presentCount++;
+        } else {
+            absent.set(slot);
+            absentCount++;
+        }
+    }
+
+    /**
+     * Removes {@code person}, which must be the same instance that was added.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        Integer slot = slots.remove(person);
+        if (slot == null) {
+            return;
+        }
+        persons[slot] = null;
+        if (present.get(slot)) {
+            present.clear(slot);
+            presentCount--;
+        } else if (absent.get(slot)) {
+            absent.clear(slot);
+            absentCount--;
+        }
+        if (slotCount >= MIN_SLOTS_TO_COMPACT && slotCount - slots.size() > slots.size()) {
+            compact();
+        }
+    }
+
+    /**
+     * Returns the number of persons marked present.
+     */
+    public int getPresentCount() {
+        return presentCount;
+    }
+
+    /**
+     * Returns the number of persons marked absent.
+     */
+    public int getAbsentCount() {
+        return absentCount;
+    }
+
+    /**
+     * Returns the number of persons whose attendance has not been marked.
+     */
+    public int getUnmarkedCount() {
+        return slots.size() - presentCount - absentCount;
+    }
+
+    /**
+     * Returns the persons marked present.
+     * The returned set compares persons by identity.
+     */
+    public Set<Person> present() {
+        Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>(presentCount * 2));
+        for (int slot = present.nextSetBit(0); slot >= 0; slot = present.nextSetBit(slot + 1)) {
+            matches.add(persons[slot]);
+        }
+        return matches;
+    }
+
+    /**
+     * Re-adds the persons still in the index to fresh bitmaps, dropping the slots of removed persons.
+     */
+    private void compact() {
+        Person[] remaining = Arrays.copyOf(persons, slotCount);
+        present.clear();
+        absent.clear();
+        slots.clear();
+        persons = new Person[Math.max(16, remaining.length / 2)];
+        slotCount = 0;
+        presentCount = 0;
+        absentCount = 0;
+        for (Person person : remaining) {
+            if (person != null) {
+                add(person);
+            }
+        }
+    }
+}
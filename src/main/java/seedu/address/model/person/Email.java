@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.StringUtil.isAsciiAlphanumeric;
 
 /**
  * Represents a Person's email in the address book.
@@ -47,9 +48,59 @@ public class Email {
 
     /**
      * Returns if a given string is a valid email.
+     * Equivalent to matching {@link #VALIDATION_REGEX}, but scans the string directly in linear time.
      */
     public static boolean isValidEmail(String test) {
-        return test.matches(VALIDATION_REGEX);
+        int at = test.indexOf('@');
+        if (at < 0 || test.indexOf('@', at + 1) >= 0) {
+            return false;
+        }
+        return isAlphanumericRuns(test, 0, at, SPECIAL_CHARACTERS) && isValidDomain(test, at + 1, test.length());
+    }
+
+    /**
+     * Returns true if {@code s} between {@code start} and {@code end} is a domain of period-separated labels,
+     * the last of which is made up of at least two {@code DOMAIN_PART_REGEX} parts.
+     */
+    private static boolean isValidDomain(String s, int start, int end) {
+        int labelStart = start;
+        int period;
+        while ((period = s.indexOf('.', labelStart)) >= 0 && period < end) {
+            if (!isAlphanumericRuns(s, labelStart, period, "-")) {
+                return false;
+            }
+            labelStart = period + 1;
+        }
+        // Consecutive parts can only be split between two alphanumeric characters
+        return isAlphanumericRuns(s, labelStart, end, "-") && hasAdjacentAlphanumerics(s, labelStart, end);
+    }
+
+    /**
+     * Returns true if {@code s} between {@code start} and {@code end} is a non-empty run of alphanumeric characters,
+     * optionally separated by single characters from {@code separators}.
+     */
+    private static boolean isAlphanumericRuns(String s, int start, int end, String separators) {
+        boolean isAfterAlphanumeric = false;
+        for (int i = start; i < end; i++) {
+            char c = s.charAt(i);
+            if (isAsciiAlphanumeric(c)) {
+                isAfterAlphanumeric = true;
+            } else if (isAfterAlphanumeric && separators.indexOf(c) >= 0) {
+                isAfterAlphanumeric = false;
+            } else {
+                return false;
+            }
+        }
+        return isAfterAlphanumeric;
+    }
+
+    private static boolean hasAdjacentAlphanumerics(String s, int start, int end) {
+        for (int i = start + 1; i < end; i++) {
+            if (isAsciiAlphanumeric(s.charAt(i - 1)) && isAsciiAlphanumeric(s.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
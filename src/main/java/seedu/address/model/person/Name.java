@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.StringUtil.isAsciiAlphanumeric;
 
 /**
  * Represents a Person's name in the address book.
@@ -33,9 +34,19 @@ public class Name {
 
     /**
      * Returns true if a given string is a valid name.
+     * Equivalent to matching {@link #VALIDATION_REGEX}, but scans the string directly.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        if (test.isEmpty() || test.charAt(0) == ' ') {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (!isAsciiAlphanumeric(c) && c != '/' && c != ' ') {
+                return false;
+            }
+        }
+        return true;
     }
 
 
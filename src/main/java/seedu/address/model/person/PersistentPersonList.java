@@ -0,0 +1,262 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * An immutable sequence of persons. Every change returns a new list and leaves this one as it was, sharing all but
+ * O(log n) of its nodes with it, so that old versions can be kept and read by any thread at little cost.
+ *
+ * The persons are held in a treap ordered by position, in which every node also records the size of its subtree.
+ * Reading, replacing or removing the person at an index and appending a person take O(log n) expected time.
+ */
+public final class PersistentPersonList implements Iterable<Person> {
+
+    private static final PersistentPersonList EMPTY = new PersistentPersonList(null);
+
+    private final Node root;
+    private final List<Person> listView = new ListView();
+
+    private PersistentPersonList(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns an empty list.
+     */
+    public static PersistentPersonList empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a list of {@code persons}, in the same order, built in O(n) time.
+     */
+    public static PersistentPersonList of(List<Person> persons) {
+        requireNonNull(persons);
+        // Builds the treap from left to right, keeping the nodes on its right spine on a stack
+        Deque<Builder> spine = new ArrayDeque<>();
+        for (Person person : persons) {
+            Builder node = new Builder(requireNonNull(person), ThreadLocalRandom.current().nextInt());
+            Builder lastPopped = null;
+            while (!spine.isEmpty() && spine.peek().priority < node.priority) {
+                lastPopped = spine.pop();
+            }
+            node.left = lastPopped;
+            if (!spine.isEmpty()) {
+                spine.peek().right = node;
+            }
+            spine.push(node);
+        }
+        return spine.isEmpty() ? EMPTY : new PersistentPersonList(spine.peekLast().build());
+    }
+
+    public int size() {
+        return sizeOf(root);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Returns the person at {@code index}.
+     */
+    public Person get(int index) {
+        checkIndex(index, size());
+        Node current = root;
+        while (true) {
+            int leftSize = sizeOf(current.left);
+            if (index < leftSize) {
+                current = current.left;
+            } else if (index == leftSize) {
+                return current.person;
+            } else {
+                index -= leftSize + 1;
+                current = current.right;
+            }
+        }
+    }
+
+    /**
+     * Returns a list with {@code person} appended.
+     */
+    public PersistentPersonList add(Person person) {
+        requireNonNull(person);
+        return new PersistentPersonList(merge(root, new Node(person, ThreadLocalRandom.current().nextInt(),
+                null, null)));
+    }
+
+    /**
+     * Returns a list with the person at {@code index} replaced by {@code person}.
+     */
+    public PersistentPersonList set(int index, Person person) {
+        requireNonNull(person);
+        checkIndex(index, size());
+        return new PersistentPersonList(setAt(root, index, person));
+    }
+
+    /**
+     * Returns a list without the person at {@code index}.
+     */
+    public PersistentPersonList remove(int index) {
+        checkIndex(index, size());
+        return new PersistentPersonList(removeAt(root, index));
+    }
+
+    /**
+     * Returns an unmodifiable view of this list. Reading a person by index takes O(log n) time, while iterating over
+     * all persons takes O(n) time.
+     */
+    public List<Person> asList() {
+        return listView;
+    }
+
+    @Override
+    public Iterator<Person> iterator() {
+        return new InOrderIterator(root);
+    }
+
+    private static Node setAt(Node node, int index, Person person) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return node.withChildren(setAt(node.left, index, person), node.right);
+        }
+        if (index == leftSize) {
+            return new Node(person, node.priority, node.left, node.right);
+        }
+        return node.withChildren(node.left, setAt(node.right, index - leftSize - 1, person));
+    }
+
+    private static Node removeAt(Node node, int index) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return node.withChildren(removeAt(node.left, index), node.right);
+        }
+        if (index == leftSize) {
+            return merge(node.left, node.right);
+        }
+        return node.withChildren(node.left, removeAt(node.right, index - leftSize - 1));
+    }
+
+    /**
+     * Joins two trees, where every node of {@code first} comes before every node of {@code second}, copying only the
+     * nodes on the path where they are joined.
+     */
+    private static Node merge(Node first, Node second) {
+        if (first == null) {
+            return second;
+        }
+        if (second == null) {
+            return first;
+        }
+        if (first.priority > second.priority) {
+            return first.withChildren(first.left, merge(first.right, second));
+        }
+        return second.withChildren(merge(first, second.left), second.right);
+    }
+
+    private static int sizeOf(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static void checkIndex(int index, int size) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+    }
+
+    /**
+     * A node of the treap. Nodes are never changed once created, so they can be shared between lists.
+     */
+    private static class Node {
+        private final Person person;
+        private final int priority;
+        private final Node left;
+        private final Node right;
+        private final int size;
+
+        Node(Person person, int priority, Node left, Node right) {
+            this.person = person;
+            this.priority = priority;
+            this.left = left;
+            this.right = right;
+            this.size = sizeOf(left) + sizeOf(right) + 1;
+        }
+
+        Node withChildren(Node left, Node right) {
+            return new Node(person, priority, left, right);
+        }
+    }
+
+    /**
+     * A node of a treap still being built by {@link #of(List)}, whose children may still change.
+     */
+    private static class Builder {
+        private final Person person;
+        private final int priority;
+        private Builder left;
+        private Builder right;
+
+        Builder(Person person, int priority) {
+            this.person = person;
+            this.priority = priority;
+        }
+
+        Node build() {
+            return new Node(person, priority, left == null ? null : left.build(), right == null ? null : right.build());
+        }
+    }
+
+    private static class InOrderIterator implements Iterator<Person> {
+        private final Deque<Node> path = new ArrayDeque<>();
+
+        InOrderIterator(Node root) {
+            pushLeftSpine(root);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !path.isEmpty();
+        }
+
+        @Override
+        public Person next() {
+            if (path.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            Node next = path.pop();
+            pushLeftSpine(next.right);
+            return next.person;
+        }
+
+        private void pushLeftSpine(Node node) {
+            for (Node current = node; current != null; current = current.left) {
+                path.push(current);
+            }
+        }
+    }
+
+    private class ListView extends AbstractList<Person> {
+        @Override
+        public Person get(int index) {
+            return PersistentPersonList.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return PersistentPersonList.this.size();
+        }
+
+        @Override
+        public Iterator<Person> iterator() {
+            return PersistentPersonList.this.iterator();
+        }
+    }
+}
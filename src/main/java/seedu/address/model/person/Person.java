@@ -28,6 +28,9 @@ public class Person {
     private final Boolean isPresent; // null = unmarked, true = present, false = absent
     private final Points points;
 
+    // Derived from the fields above on first use; not part of equality
+    private SearchKeys searchKeys;
+
     /**
      * Constructs a {@code Person} with {@code isPresent=null} (unmarked) and fresh {@code Points}.
      * Every field must be present and not null.
@@ -128,6 +131,19 @@ public class Person {
         return points;
     }
 
+    /**
+     * Returns the lower-cased search keys of this person, computing them on first use.
+     * Since a person is immutable, the keys never need to be recomputed.
+     */
+    public SearchKeys getSearchKeys() {
+        SearchKeys keys = searchKeys;
+        if (keys == null) {
+            keys = new SearchKeys(name, phone, email, address, faculty, yearOfStudy, tags);
+            searchKeys = keys;
+        }
+        return keys;
+    }
+
     /** Identity: same email OR same phone (names can duplicate). */
     public boolean isSamePerson(Person otherPerson) {
         if (otherPerson == this) {
@@ -0,0 +1,54 @@
+package seedu.address.model.person;
+
+import java.util.List;
+
+/**
+ * The changes that took a {@link UniquePersonList} from one {@link PersistentPersonList} to another. A list holding
+ * either one can be moved to the other by touching only the persons that were changed, instead of replacing all of
+ * its persons.
+ *
+ * @see UniquePersonList#restore(PersistentPersonList, PersonListEdits)
+ */
+public final class PersonListEdits {
+
+    private final PersistentPersonList before;
+    private final PersistentPersonList after;
+    private final List<Edit> edits; // null if the contents were replaced as a whole
+
+    PersonListEdits(PersistentPersonList before, PersistentPersonList after, List<Edit> edits) {
+        this.before = before;
+        this.after = after;
+        this.edits = edits;
+    }
+
+    PersistentPersonList getBefore() {
+        return before;
+    }
+
+    PersistentPersonList getAfter() {
+        return after;
+    }
+
+    /**
+     * Returns the single-person edits in the order they were made, or null if the contents were replaced as a whole.
+     */
+    List<Edit> getEdits() {
+        return edits;
+    }
+
+    /**
+     * A change at one position of the list: {@code removed} was taken out and {@code added} put in its place. Either
+     * may be null, for an addition or a removal.
+     */
+    static class Edit {
+        final int index;
+        final Person removed;
+        final Person added;
+
+        Edit(int index, Person removed, Person added) {
+            this.index = index;
+            this.removed = removed;
+            this.added = added;
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * A trigram inverted index over the fields searched by {@code find}: name, phone, email, address, faculty and year of
+ * study. Every field is lower-cased and each of its three-character substrings maps to the persons whose field
+ * contains it, so a keyword can only be a substring of a field of a person who is in the posting list of every one of
+ * the keyword's trigrams.
+ *
+ * Each added person gets the next slot number, and posting lists hold slot numbers in ascending order so that they can
+ * be intersected by merging. Removing a person only empties its slot; the posting lists are rebuilt once empty slots
+ * outnumber the persons in the index.
+ *
+ * The index only narrows down candidates. Callers must still test each candidate against the actual keywords.
+ */
+public class PersonSearchIndex {
+
+    /** Keywords shorter than this have no trigrams and cannot be looked up. */
+    public static final int MIN_KEYWORD_LENGTH = 3;
+
+    private static final int MIN_SLOTS_TO_COMPACT = 1024;
+
+    private final Map<Long, Posting> postings = new HashMap<>();
+    private final Map<Person, Integer> slots = new IdentityHashMap<>();
+    private Person[] persons = new Person[16];
+    private int slotCount;
+
+    /**
+     * Adds {@code person} to the posting list of every trigram of its searchable fields.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        if (slotCount == persons.length) {
+            persons = Arrays.copyOf(persons, slotCount * 2);
+        }
+        int slot = slotCount++;
+        persons[slot] = person;
+        slots.put(person, slot);
+        for (String field : person.getSearchKeys().getFields()) {
+            for (int i = 0; i + MIN_KEYWORD_LENGTH <= field.length(); i++) {
+                postings.computeIfAbsent(trigramAt(field, i), unused -> new Posting()).add(slot);
+            }
+        }
+    }
+
+    /**
+     * Removes {@code person}, which must be the same instance that was added.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        Integer slot = slots.remove(person);
+        if (slot == null) {
+            return;
+        }
+        persons[slot] = null;
+        if (slotCount >= MIN_SLOTS_TO_COMPACT && slotCount - slots.size() > slots.size()) {
+            compact();
+        }
+    }
+
+    /**
+     * Returns the persons that may have a field containing any of {@code keywords}, compared case-insensitively.
+     * Blank keywords match nobody and are ignored. Returns an empty {@code Optional} if some keyword is too short to be
+     * looked up or may also match a person's year of study as "Y" followed by the year, in which case every person is
+     * a candidate.
+     * The returned set compares persons by identity.
+     */
+    public Optional<Set<Person>> candidates(List<String> keywords) {
+        requireNonNull(keywords);
+        Set<Person> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String raw : keywords) {
+            String keyword = raw == null ? "" : raw.trim().toLowerCase();
+            if (keyword.isEmpty()) {
+                continue;
+            }
+            if (keyword.length() < MIN_KEYWORD_LENGTH || isYearKeyword(keyword)) {
+                return Optional.empty();
+            }
+            addMatches(keyword, candidates);
+        }
+        return Optional.of(candidates);
+    }
+
+    /**
+     * Adds to {@code candidates} the persons in the posting lists of all trigrams of {@code keyword}.
+     */
+    private void addMatches(String keyword, Set<Person> candidates) {
+        List<Posting> lists = new ArrayList<>();
+        for (int i = 0; i + MIN_KEYWORD_LENGTH <= keyword.length(); i++) {
+            Posting posting = postings.get(trigramAt(keyword, i));
+            if (posting == null) {
+                return;
+            }
+            lists.add(posting);
+        }
+        lists.sort(Comparator.comparingInt(posting -> posting.size));
+
+        Posting smallest = lists.get(0);
+        int[] positions = new int[lists.size()];
+        for (int i = 0; i < smallest.size; i++) {
+            int slot = smallest.slots[i];
+            if (persons[slot] != null && isInAll(slot, lists, positions)) {
+                candidates.add(persons[slot]);
+            }
+        }
+    }
+
+    /**
+     * Returns true if {@code slot} is in every posting list after the first. Since slots are visited in ascending
+     * order, {@code positions} remembers where each list was last searched from, and only the rest of it is
+     * binary-searched.
+     */
+    private static boolean isInAll(int slot, List<Posting> lists, int[] positions) {
+        for (int j = 1; j < lists.size(); j++) {
+            Posting posting = lists.get(j);
+            int found = Arrays.binarySearch(posting.slots, positions[j], posting.size, slot);
+            if (found < 0) {
+                positions[j] = -found - 1;
+                return false;
+            }
+            positions[j] = found + 1;
+        }
+        return true;
+    }
+
+    /**
+     * Re-adds the persons still in the index to fresh posting lists, dropping the slots of removed persons.
+     */
+    private void compact() {
+        Person[] remaining = Arrays.copyOf(persons, slotCount);
+        postings.clear();
+        slots.clear();
+        persons = new Person[Math.max(16, remaining.length / 2)];
+        slotCount = 0;
+        for (Person person : remaining) {
+            if (person != null) {
+                add(person);
+            }
+        }
+    }
+
+    /**
+     * Returns true if {@code keyword} has the form "y" followed by digits, which also matches on year of study.
+     */
+    private static boolean isYearKeyword(String keyword) {
+        if (keyword.charAt(0) != 'y') {
+            return false;
+        }
+        for (int i = 1; i < keyword.length(); i++) {
+            char c = keyword.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Packs the three characters of {@code s} starting at {@code start} into a single key.
+     */
+    private static Long trigramAt(String s, int start) {
+        return ((long) s.charAt(start) << 32) | ((long) s.charAt(start + 1) << 16) | s.charAt(start + 2);
+    }
+
+    /**
+     * The slots of the persons with a trigram, in ascending order.
+     */
+    private static class Posting {
+        private int[] slots = new int[4];
+        private int size;
+
+        /**
+         * Appends {@code slot}, which must not be smaller than any slot already in the list. Adding the slot that was
+         * added last again has no effect, so a trigram that occurs more than once in a person is recorded once.
+         */
+        void add(int slot) {
+            if (size > 0 && slots[size - 1] == slot) {
+                return;
+            }
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            slots[size++] = slot;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.StringUtil.isAsciiWhitespace;
 
 /**
  * Represents a Person's mobile phone number in the address book.
@@ -17,6 +18,7 @@ public class Phone {
             "Mobile number must be exactly 8 digits and start with 8 or 9 (e.g., 91234567).";
     // 8 digits, first digit 8 or 9
     public static final String VALIDATION_REGEX = "^[89]\\d{7}$";
+    private static final int LENGTH = 8;
 
     public final String value;
 
@@ -35,18 +37,59 @@ public class Phone {
     /**
      * Returns true if a given string is a valid mobile phone number.
      * Input is normalized (spaces and dashes removed) before validation.
+     * Equivalent to matching the normalized input against {@link #VALIDATION_REGEX}, but scans the input directly.
      */
     public static boolean isValidPhone(String test) {
         requireNonNull(test);
-        String normalized = normalize(test);
-        return normalized.matches(VALIDATION_REGEX);
+        int end = trimmedEnd(test);
+        int digits = 0;
+        for (int i = trimmedStart(test, end); i < end; i++) {
+            char c = test.charAt(i);
+            if (isSeparator(c)) {
+                continue;
+            }
+            if (c < '0' || c > '9' || digits == LENGTH || (digits == 0 && c != '8' && c != '9')) {
+                return false;
+            }
+            digits++;
+        }
+        return digits == LENGTH;
     }
 
     /**
      * Remove common separators so "9123-4567" or "9123 4567" still validate.
+     * Leading and trailing characters are trimmed as by {@link String#trim()}.
      */
     private static String normalize(String raw) {
-        return raw.trim().replaceAll("[\\s-]", "");
+        int end = trimmedEnd(raw);
+        StringBuilder normalized = new StringBuilder(LENGTH);
+        for (int i = trimmedStart(raw, end); i < end; i++) {
+            char c = raw.charAt(i);
+            if (!isSeparator(c)) {
+                normalized.append(c);
+            }
+        }
+        return normalized.toString();
+    }
+
+    private static boolean isSeparator(char c) {
+        return c == '-' || isAsciiWhitespace(c);
+    }
+
+    private static int trimmedEnd(String s) {
+        int end = s.length();
+        while (end > 0 && s.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return end;
+    }
+
+    private static int trimmedStart(String s, int end) {
+        int start = 0;
+        while (start < end && s.charAt(start) <= ' ') {
+            start++;
+        }
+        return start;
     }
 
     @Override
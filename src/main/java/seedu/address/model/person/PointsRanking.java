@@ -0,0 +1,196 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Orders persons by points, most points first, as a treap in which every node also records the size of its subtree.
+ * Persons with equal points are ordered by when they were added, so every person has a distinct key of points and
+ * slot number.
+ *
+ * Adding or removing a person and finding a person's rank take O(log n) expected time, and the top N persons are
+ * listed in O(log n + N) time, without sorting all the persons.
+ */
+public class PointsRanking {
+
+    private final Map<Person, Node> nodes = new IdentityHashMap<>();
+    private final SplittableRandom random = new SplittableRandom();
+    private Node root;
+    private long nextSlot;
+
+    /**
+     * Adds {@code person} under its current points.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        Node node = new Node(person, nextSlot++, random.nextInt());
+        nodes.put(person, node);
+        Node[] halves = split(root, node.points, node.slot);
+        root = merge(merge(halves[0], node), halves[1]);
+    }
+
+    /**
+     * Removes {@code person}, which must be the same instance that was added.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        Node node = nodes.remove(person);
+        if (node != null) {
+            root = removeNode(root, node);
+        }
+    }
+
+    /**
+     * Returns the number of persons in the ranking.
+     */
+    public int size() {
+        return nodes.size();
+    }
+
+    /**
+     * Returns the rank of {@code person}, which is one more than the number of persons with more points, so persons
+     * with equal points share a rank. {@code person} must be the same instance that was added.
+     */
+    public int rankOf(Person person) {
+        requireNonNull(person);
+        Node node = nodes.get(person);
+        if (node == null) {
+            throw new IllegalArgumentException("Person is not in the ranking");
+        }
+        return countWithMorePoints(node.points) + 1;
+    }
+
+    /**
+     * Returns the {@code n} persons with the most points, most points first. Persons with equal points are listed in
+     * the order they were added.
+     */
+    public List<Person> top(int n) {
+        List<Person> top = new ArrayList<>(Math.min(Math.max(n, 0), nodes.size()));
+        Deque<Node> path = new ArrayDeque<>();
+        Node current = root;
+        while (top.size() < n && (current != null || !path.isEmpty())) {
+            while (current != null) {
+                path.push(current);
+                current = current.left;
+            }
+            Node next = path.pop();
+            top.add(next.person);
+            current = next.right;
+        }
+        return top;
+    }
+
+    /**
+     * Returns the number of persons with more than {@code points} points.
+     */
+    private int countWithMorePoints(int points) {
+        int count = 0;
+        Node current = root;
+        while (current != null) {
+            if (current.points > points) {
+                count += sizeOf(current.left) + 1;
+                current = current.right;
+            } else {
+                current = current.left;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns true if the key ({@code points}, {@code slot}) comes before that of {@code node}.
+     */
+    private static boolean isBefore(int points, long slot, Node node) {
+        return points != node.points ? points > node.points : slot < node.slot;
+    }
+
+    /**
+     * Splits {@code tree} into the nodes ordered before the key ({@code points}, {@code slot}) and the rest.
+     */
+    private static Node[] split(Node tree, int points, long slot) {
+        if (tree == null) {
+            return new Node[] {null, null};
+        }
+        if (isBefore(points, slot, tree)) {
+            Node[] halves = split(tree.left, points, slot);
+            tree.left = halves[1];
+            tree.update();
+            return new Node[] {halves[0], tree};
+        }
+        Node[] halves = split(tree.right, points, slot);
+        tree.right = halves[0];
+        tree.update();
+        return new Node[] {tree, halves[1]};
+    }
+
+    /**
+     * Joins two trees, where every node of {@code first} is ordered before every node of {@code second}.
+     */
+    private static Node merge(Node first, Node second) {
+        if (first == null) {
+            return second;
+        }
+        if (second == null) {
+            return first;
+        }
+        if (first.priority > second.priority) {
+            first.right = merge(first.right, second);
+            first.update();
+            return first;
+        }
+        second.left = merge(first, second.left);
+        second.update();
+        return second;
+    }
+
+    /**
+     * Removes {@code node} from {@code tree} and returns the resulting tree.
+     */
+    private static Node removeNode(Node tree, Node node) {
+        if (tree == node) {
+            return merge(tree.left, tree.right);
+        }
+        if (isBefore(node.points, node.slot, tree)) {
+            tree.left = removeNode(tree.left, node);
+        } else {
+            tree.right = removeNode(tree.right, node);
+        }
+        tree.update();
+        return tree;
+    }
+
+    private static int sizeOf(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    /**
+     * A person in the ranking, with the points it was added under.
+     */
+    private static class Node {
+        private final Person person;
+        private final int points;
+        private final long slot;
+        private final int priority;
+        private Node left;
+        private Node right;
+        private int size = 1;
+
+        Node(Person person, long slot, int priority) {
+            this.person = person;
+            this.points = person.getPoints().getValue();
+            this.slot = slot;
+            this.priority = priority;
+        }
+
+        void update() {
+            size = sizeOf(left) + sizeOf(right) + 1;
+        }
+    }
+}
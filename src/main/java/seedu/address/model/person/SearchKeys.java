@@ -0,0 +1,112 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The lower-cased forms of the fields of a {@code Person} that queries match against, computed once per person.
+ * Fields are kept apart rather than concatenated so that a keyword never matches across two fields.
+ *
+ * The matching methods only read the precomputed strings, so testing a person against a query does not allocate.
+ */
+public final class SearchKeys {
+
+    private final String[] fields;
+    private final String year;
+    private final String[] nameWords;
+    private final String[] tagNames;
+
+    /**
+     * Computes the search keys of the given fields of a person.
+     */
+    SearchKeys(Name name, Phone phone, Email email, Address address, String faculty, int yearOfStudy, Set<Tag> tags) {
+        String lowerName = name.fullName.toLowerCase();
+        year = String.valueOf(yearOfStudy);
+        fields = new String[] {
+            lowerName,
+            phone.value.toLowerCase(),
+            email.value.toLowerCase(),
+            address.value.toLowerCase(),
+            String.valueOf(faculty).toLowerCase(),
+            year
+        };
+        nameWords = splitWords(lowerName);
+        tagNames = tags.stream().map(tag -> tag.tagName.toLowerCase()).toArray(String[]::new);
+    }
+
+    /**
+     * Returns the lower-cased name, phone, email, address, faculty and year of study, in that order.
+     */
+    public List<String> getFields() {
+        return List.of(fields);
+    }
+
+    /** Returns the year of study as a string. */
+    public String getYear() {
+        return year;
+    }
+
+    /** Returns the whitespace-separated words of the lower-cased name. */
+    public List<String> getNameWords() {
+        return List.of(nameWords);
+    }
+
+    /** Returns the lower-cased tag names. */
+    public List<String> getTagNames() {
+        return List.of(tagNames);
+    }
+
+    /**
+     * Returns true if any field contains {@code keyword}, which must be lower-cased.
+     */
+    public boolean anyFieldContains(String keyword) {
+        for (String field : fields) {
+            if (field.contains(keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if a word of the name starts with {@code prefix}, which must be lower-cased.
+     */
+    public boolean hasNameWordStartingWith(String prefix) {
+        return anyStartsWith(nameWords, prefix);
+    }
+
+    /**
+     * Returns true if a tag name starts with {@code prefix}, which must be lower-cased.
+     */
+    public boolean hasTagStartingWith(String prefix) {
+        return anyStartsWith(tagNames, prefix);
+    }
+
+    private static boolean anyStartsWith(String[] values, String prefix) {
+        for (String value : values) {
+            if (value.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the runs of non-whitespace characters in {@code s}, as when splitting it on whitespace.
+     */
+    private static String[] splitWords(String s) {
+        List<String> words = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= s.length(); i++) {
+            boolean isBoundary = i == s.length() || Character.isWhitespace(s.charAt(i));
+            if (isBoundary && start >= 0) {
+                words.add(s.substring(start, i));
+                start = -1;
+            } else if (!isBoundary && start < 0) {
+                start = i;
+            }
+        }
+        return words.toArray(String[]::new);
+    }
+}
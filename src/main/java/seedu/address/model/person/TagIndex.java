@@ -0,0 +1,131 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * A sorted dictionary of lower-cased tag names, each mapped to a bitmap of the slots of the persons with that tag.
+ * The tags starting with a prefix are next to each other in the dictionary, so a prefix is looked up by OR-ing the
+ * bitmaps of the tags from the prefix onwards until one no longer starts with it.
+ *
+ * Each added person gets the next slot number. Removing a person only empties its slot; the bitmaps are rebuilt once
+ * empty slots outnumber the persons in the index.
+ */
+public class TagIndex {
+
+    private static final int MIN_SLOTS_TO_COMPACT = 1024;
+
+    private final TreeMap<String, BitSet> bitmaps = new TreeMap<>();
+    private final Map<Person, Integer> slots = new IdentityHashMap<>();
+    private Person[] persons = new Person[16];
+    private int slotCount;
+
+    /**
+     * Sets the slot of {@code person} in the bitmap of each of its tags.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        if (slotCount == persons.length) {
+            persons = Arrays.copyOf(persons, slotCount * 2);
+        }
+        int slot = slotCount++;
+        persons[slot] = person;
+        slots.put(person, slot);
+        for (String name : person.getSearchKeys().getTagNames()) {
+            bitmaps.computeIfAbsent(name, unused -> new BitSet()).set(slot);
+        }
+    }
+
+    /**
+     * Removes {@code person}, which must be the same instance that was added.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        Integer slot = slots.remove(person);
+        if (slot == null) {
+            return;
+        }
+        persons[slot] = null;
+        for (String name : person.getSearchKeys().getTagNames()) {
+            BitSet bitmap = bitmaps.get(name);
+            if (bitmap != null) {
+                bitmap.clear(slot);
+                if (bitmap.isEmpty()) {
+                    bitmaps.remove(name);
+                }
+            }
+        }
+        if (slotCount >= MIN_SLOTS_TO_COMPACT && slotCount - slots.size() > slots.size()) {
+            compact();
+        }
+    }
+
+    /**
+     * Returns the persons with a tag starting with each of {@code prefixes}, compared case-insensitively, or with a
+     * tag starting with any of them if {@code any} is true. Returns an empty {@code Optional} if there are no
+     * prefixes, in which case every person matches.
+     * The returned set compares persons by identity.
+     */
+    public Optional<Set<Person>> matches(Collection<String> prefixes, boolean any) {
+        requireNonNull(prefixes);
+        if (prefixes.isEmpty()) {
+            return Optional.empty();
+        }
+        BitSet result = null;
+        for (String prefix : prefixes) {
+            BitSet withPrefix = withPrefix(prefix.toLowerCase());
+            if (result == null) {
+                result = withPrefix;
+            } else if (any) {
+                result.or(withPrefix);
+            } else {
+                result.and(withPrefix);
+            }
+        }
+
+        Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int slot = result.nextSetBit(0); slot >= 0; slot = result.nextSetBit(slot + 1)) {
+            matches.add(persons[slot]);
+        }
+        return Optional.of(matches);
+    }
+
+    /**
+     * Returns the slots of the persons with a tag that starts with {@code prefix}.
+     */
+    private BitSet withPrefix(String prefix) {
+        BitSet slotsWithPrefix = new BitSet();
+        for (Map.Entry<String, BitSet> entry : bitmaps.tailMap(prefix, true).entrySet()) {
+            if (!entry.getKey().startsWith(prefix)) {
+                break;
+            }
+            slotsWithPrefix.or(entry.getValue());
+        }
+        return slotsWithPrefix;
+    }
+
+    /**
+     * Re-adds the persons still in the index to fresh bitmaps, dropping the slots of removed persons.
+     */
+    private void compact() {
+        Person[] remaining = Arrays.copyOf(persons, slotCount);
+        bitmaps.clear();
+        slots.clear();
+        persons = new Person[Math.max(16, remaining.length / 2)];
+        slotCount = 0;
+        for (Person person : remaining) {
+            if (person != null) {
+                add(person);
+            }
+        }
+    }
+}
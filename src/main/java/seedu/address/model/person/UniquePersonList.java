@@ -3,8 +3,16 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -18,6 +26,18 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Since identity is defined by email or phone, the list also keeps email and phone hash indexes over its elements so
+ * that identity checks and duplicate detection do not need to scan the whole list. The position of each person is
+ * also kept, so that edits and removals find their person without scanning the list. A {@link PersonSearchIndex} for
+ * {@code find}, a {@link TagIndex} for {@code search} and a {@link PointsRanking} for the leaderboard are each built
+ * on their first query and then kept up to date by every mutation until the contents are replaced. An
+ * {@link AttendanceIndex} is always kept, so that attendance can be counted at any time without scanning the list.
+ *
+ * Every mutation also updates a {@link PersistentPersonList} of the same persons, which shares most of its structure
+ * with the one before it, so that the contents at any point can be handed out cheaply as an immutable snapshot. The
+ * mutations since the last {@link #takeEdits()} are also recorded, so that the list can later be moved between the
+ * two snapshots by redoing or undoing just those.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -27,13 +47,41 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private PersistentPersonList snapshot = PersistentPersonList.empty();
+    private final Map<Email, Person> emailIndex = new HashMap<>();
+    private final Map<Phone, Person> phoneIndex = new HashMap<>();
+    // Position of each person in the backing list, keyed by the instance held in the list
+    private final Map<Person, Integer> positions = new IdentityHashMap<>();
+    private AttendanceIndex attendanceIndex = new AttendanceIndex();
+    private PersonSearchIndex searchIndex; // null until the first search after the contents were replaced
+    private TagIndex tagIndex; // null until the first tag query after the contents were replaced
+    private PointsRanking pointsRanking; // null until the first ranking query after the contents were replaced
+    // The contents as of the last takeEdits, and the mutations since then, or null once the contents were replaced
+    private PersistentPersonList editsBase = snapshot;
+    private List<PersonListEdits.Edit> edits = new ArrayList<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return emailIndex.containsKey(toCheck.getEmail()) || phoneIndex.containsKey(toCheck.getPhone());
+    }
+
+    /**
+     * Returns the person in the list with the given email, looked up through the email index.
+     */
+    public Optional<Person> getByEmail(Email email) {
+        requireNonNull(email);
+        return Optional.ofNullable(emailIndex.get(email));
+    }
+
+    /**
+     * Returns the person in the list with the given phone number, looked up through the phone index.
+     */
+    public Optional<Person> getByPhone(Phone phone) {
+        requireNonNull(phone);
+        return Optional.ofNullable(phoneIndex.get(phone));
     }
 
     /**
@@ -45,7 +93,10 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
-        internalList.add(toAdd);
+        int index = internalList.size();
+        replaceAt(index, null, toAdd);
+        snapshot = snapshot.add(toAdd);
+        recordEdit(index, null, toAdd);
     }
 
     /**
@@ -56,16 +107,20 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Person existing = emailIndex.get(target.getEmail());
+        if (existing == null || !existing.equals(target)) {
             throw new PersonNotFoundException();
         }
 
-        if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
+        if (isHeldByOther(emailIndex.get(editedPerson.getEmail()), existing)
+                || isHeldByOther(phoneIndex.get(editedPerson.getPhone()), existing)) {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        int index = positions.get(existing);
+        replaceAt(index, existing, editedPerson);
+        snapshot = snapshot.set(index, editedPerson);
+        recordEdit(index, existing, editedPerson);
     }
 
     /**
@@ -74,14 +129,47 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        Person existing = emailIndex.get(toRemove.getEmail());
+        if (existing == null || !existing.equals(toRemove)) {
             throw new PersonNotFoundException();
         }
+        int index = positions.get(existing);
+        replaceAt(index, existing, null);
+        snapshot = snapshot.remove(index);
+        recordEdit(index, existing, null);
+    }
+
+    /**
+     * Replaces the contents of this list with the persons collected by {@code builder}, in a single change to the
+     * backing list. The indexes built up by {@code builder} are reused, so no further uniqueness checks are needed.
+     */
+    public void setPersons(Builder builder) {
+        requireNonNull(builder);
+        internalList.setAll(builder.persons);
+        resetPositions();
+        snapshot = PersistentPersonList.of(builder.persons);
+        emailIndex.clear();
+        emailIndex.putAll(builder.emailIndex);
+        phoneIndex.clear();
+        phoneIndex.putAll(builder.phoneIndex);
+        resetAttendanceIndex();
+        dropQueryIndexes();
+        edits = null;
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        positions.clear();
+        positions.putAll(replacement.positions);
+        snapshot = replacement.snapshot;
+        emailIndex.clear();
+        emailIndex.putAll(replacement.emailIndex);
+        phoneIndex.clear();
+        phoneIndex.putAll(replacement.phoneIndex);
+        resetAttendanceIndex();
+        dropQueryIndexes();
+        edits = null;
     }
 
     /**
@@ -95,6 +183,160 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.setAll(persons);
+        resetPositions();
+        snapshot = PersistentPersonList.of(persons);
+        emailIndex.clear();
+        phoneIndex.clear();
+        attendanceIndex = new AttendanceIndex();
+        dropQueryIndexes();
+        persons.forEach(this::index);
+        edits = null;
+    }
+
+    /**
+     * Replaces the contents of this list with {@code persons}, which are also kept as the persistent contents of this
+     * list, so that restoring an earlier {@link #asPersistentList()} shares its structure instead of copying it.
+     * {@code persons} must not contain duplicate persons.
+     */
+    public void setPersons(PersistentPersonList persons) {
+        requireNonNull(persons);
+        setPersons(new ArrayList<>(persons.asList()));
+        snapshot = persons;
+    }
+
+    /**
+     * Returns the mutations made to this list since this method was last called, and starts recording afresh.
+     */
+    public PersonListEdits takeEdits() {
+        PersonListEdits taken = new PersonListEdits(editsBase, snapshot, edits == null ? null : List.copyOf(edits));
+        clearEdits();
+        return taken;
+    }
+
+    /**
+     * Replaces the contents of this list with {@code target}, which {@code edits} lead to or from. If this list holds
+     * the other end of {@code edits}, only the persons they changed are replaced, and {@code target} is kept as the
+     * persistent contents without being rebuilt. Otherwise all persons are replaced. Mutations not yet taken by
+     * {@link #takeEdits()} are discarded.
+     */
+    public void restore(PersistentPersonList target, PersonListEdits edits) {
+        requireAllNonNull(target, edits);
+        List<PersonListEdits.Edit> changes = edits.getEdits();
+        if (changes != null && snapshot == edits.getAfter() && target == edits.getBefore()) {
+            for (int i = changes.size() - 1; i >= 0; i--) {
+                PersonListEdits.Edit edit = changes.get(i);
+                replaceAt(edit.index, edit.added, edit.removed);
+            }
+            snapshot = target;
+        } else if (changes != null && snapshot == edits.getBefore() && target == edits.getAfter()) {
+            for (PersonListEdits.Edit edit : changes) {
+                replaceAt(edit.index, edit.removed, edit.added);
+            }
+            snapshot = target;
+        } else {
+            setPersons(target);
+        }
+        clearEdits();
+    }
+
+    /**
+     * Returns the persons in this list that may have a field containing any of {@code keywords}, as narrowed down by
+     * the search index. Returns an empty {@code Optional} if the keywords cannot be looked up in the index.
+     *
+     * @see PersonSearchIndex#candidates(List)
+     */
+    public Optional<Set<Person>> searchCandidates(List<String> keywords) {
+        requireNonNull(keywords);
+        if (searchIndex == null) {
+            searchIndex = new PersonSearchIndex();
+            internalList.forEach(searchIndex::add);
+        }
+        return searchIndex.candidates(keywords);
+    }
+
+    /**
+     * Returns the persons in this list with a tag starting with each of {@code prefixes}, or with any of them if
+     * {@code any} is true, or an empty {@code Optional} if there are no prefixes and every person matches.
+     *
+     * @see TagIndex#matches(Collection, boolean)
+     */
+    public Optional<Set<Person>> tagMatches(Collection<String> prefixes, boolean any) {
+        requireNonNull(prefixes);
+        if (tagIndex == null) {
+            tagIndex = new TagIndex();
+            internalList.forEach(tagIndex::add);
+        }
+        return tagIndex.matches(prefixes, any);
+    }
+
+    /**
+     * Returns the number of persons in this list marked present.
+     */
+    public int getPresentCount() {
+        return attendanceIndex.getPresentCount();
+    }
+
+    /**
+     * Returns the number of persons in this list marked absent.
+     */
+    public int getAbsentCount() {
+        return attendanceIndex.getAbsentCount();
+    }
+
+    /**
+     * Returns the number of persons in this list whose attendance has not been marked.
+     */
+    public int getUnmarkedCount() {
+        return attendanceIndex.getUnmarkedCount();
+    }
+
+    /**
+     * Returns the persons in this list marked present, as read from the attendance bitmap.
+     *
+     * @see AttendanceIndex#present()
+     */
+    public Set<Person> presentPersons() {
+        return attendanceIndex.present();
+    }
+
+    /**
+     * Returns the {@code n} persons in this list with the most points, most points first.
+     *
+     * @see PointsRanking#top(int)
+     */
+    public List<Person> topByPoints(int n) {
+        return getPointsRanking().top(n);
+    }
+
+    /**
+     * Returns the rank by points of {@code person}, which must be in this list. Persons with equal points share a
+     * rank.
+     *
+     * @see PointsRanking#rankOf(Person)
+     */
+    public int rankByPoints(Person person) {
+        requireNonNull(person);
+        Person existing = emailIndex.get(person.getEmail());
+        if (existing == null || !existing.equals(person)) {
+            throw new PersonNotFoundException();
+        }
+        return getPointsRanking().rankOf(existing);
+    }
+
+    private PointsRanking getPointsRanking() {
+        if (pointsRanking == null) {
+            pointsRanking = new PointsRanking();
+            internalList.forEach(pointsRanking::add);
+        }
+        return pointsRanking;
+    }
+
+    /**
+     * Returns the current contents of this list as an immutable {@link PersistentPersonList}, which later changes to
+     * this list leave untouched.
+     */
+    public PersistentPersonList asPersistentList() {
+        return snapshot;
     }
 
     /**
@@ -138,13 +380,161 @@ public class UniquePersonList implements Iterable<Person> {
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Set<Email> seenEmails = new HashSet<>();
+        Set<Phone> seenPhones = new HashSet<>();
+        for (Person person : persons) {
+            if (!seenEmails.add(person.getEmail()) || !seenPhones.add(person.getPhone())) {
+                return false;
             }
         }
         return true;
     }
+
+    /**
+     * Returns true if {@code holder} is a person in this list other than {@code self}.
+     */
+    private static boolean isHeldByOther(Person holder, Person self) {
+        return holder != null && holder != self;
+    }
+
+    private void index(Person person) {
+        emailIndex.put(person.getEmail(), person);
+        phoneIndex.put(person.getPhone(), person);
+        attendanceIndex.add(person);
+        if (searchIndex != null) {
+            searchIndex.add(person);
+        }
+        if (tagIndex != null) {
+            tagIndex.add(person);
+        }
+        if (pointsRanking != null) {
+            pointsRanking.add(person);
+        }
+    }
+
+    private void unindex(Person person) {
+        emailIndex.remove(person.getEmail());
+        phoneIndex.remove(person.getPhone());
+        attendanceIndex.remove(person);
+        if (searchIndex != null) {
+            searchIndex.remove(person);
+        }
+        if (tagIndex != null) {
+            tagIndex.remove(person);
+        }
+        if (pointsRanking != null) {
+            pointsRanking.remove(person);
+        }
+    }
+
+    /**
+     * Takes {@code removed} out of the backing list at {@code index} and puts {@code added} in its place, keeping the
+     * positions and indexes up to date. Either may be null, to only add or only remove a person.
+     */
+    private void replaceAt(int index, Person removed, Person added) {
+        if (removed != null && added != null) {
+            positions.remove(removed);
+            positions.put(added, index);
+            internalList.set(index, added);
+        } else if (removed != null) {
+            positions.remove(removed);
+            internalList.remove(index);
+            // The persons after the removed one move up, just as the backing list shifts them
+            updatePositionsFrom(index);
+        } else {
+            internalList.add(index, added);
+            updatePositionsFrom(index);
+        }
+        if (removed != null) {
+            unindex(removed);
+        }
+        if (added != null) {
+            index(added);
+        }
+    }
+
+    /**
+     * Records a mutation made by {@link #replaceAt(int, Person, Person)}. Once more mutations than persons are
+     * recorded, replacing all persons is no slower than redoing them, so they are dropped.
+     */
+    private void recordEdit(int index, Person removed, Person added) {
+        if (edits == null) {
+            return;
+        }
+        if (edits.size() > internalList.size()) {
+            edits = null;
+            return;
+        }
+        edits.add(new PersonListEdits.Edit(index, removed, added));
+    }
+
+    private void clearEdits() {
+        editsBase = snapshot;
+        edits = new ArrayList<>();
+    }
+
+    private void resetPositions() {
+        positions.clear();
+        updatePositionsFrom(0);
+    }
+
+    /**
+     * Records the positions of the persons from {@code from} to the end of the backing list.
+     */
+    private void updatePositionsFrom(int from) {
+        for (int i = from; i < internalList.size(); i++) {
+            positions.put(internalList.get(i), i);
+        }
+    }
+
+    /**
+     * Rebuilds the attendance index from the current contents of the backing list.
+     */
+    private void resetAttendanceIndex() {
+        attendanceIndex = new AttendanceIndex();
+        internalList.forEach(attendanceIndex::add);
+    }
+
+    /**
+     * Discards the indexes that are only built when queried, since they no longer match the contents.
+     */
+    private void dropQueryIndexes() {
+        searchIndex = null;
+        tagIndex = null;
+        pointsRanking = null;
+    }
+
+    /**
+     * Collects unique persons for {@link #setPersons(Builder)}, checking each person against those collected so far
+     * through the same email and phone indexes as the list. Collecting n persons takes O(n) time and, unlike adding
+     * them to a list one at a time, fires no list changes.
+     */
+    public static class Builder {
+        private final List<Person> persons = new ArrayList<>();
+        private final Map<Email, Person> emailIndex = new HashMap<>();
+        private final Map<Phone, Person> phoneIndex = new HashMap<>();
+
+        /**
+         * Returns true if a person with the same identity as {@code toCheck} has been collected.
+         */
+        public boolean contains(Person toCheck) {
+            requireNonNull(toCheck);
+            return emailIndex.containsKey(toCheck.getEmail()) || phoneIndex.containsKey(toCheck.getPhone());
+        }
+
+        /**
+         * Collects {@code toAdd}.
+         * A person with the same identity must not have been collected already.
+         */
+        public Builder add(Person toAdd) {
+            requireNonNull(toAdd);
+            if (contains(toAdd)) {
+                throw new DuplicatePersonException();
+            }
+            persons.add(toAdd);
+            emailIndex.put(toAdd.getEmail(), toAdd);
+            phoneIndex.put(toAdd.getPhone(), toAdd);
+            return this;
+        }
+    }
 }
@@ -2,49 +2,78 @@ package seedu.address.model.person.predicates;
 
 import java.util.List;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.SearchKeys;
 
 /**
  * Tests that a {@code Person}'s fields (except tags) contain any of the given keywords, case-insensitively.
  * Fields checked: name, phone, email, address, faculty, year of study.
  */
-public class NameContainsKeywordsPredicate implements Predicate<Person> {
+public class NameContainsKeywordsPredicate implements RefinablePredicate {
     private final List<String> keywords;
+    private final List<String> normalizedKeywords;
 
+    /**
+     * Creates a predicate for {@code keywords}. Keywords are trimmed and lower-cased once here rather than for every
+     * person tested; blank keywords match nobody.
+     */
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.normalizedKeywords = keywords.stream()
+                .map(raw -> raw == null ? "" : raw.trim().toLowerCase())
+                .filter(kw -> !kw.isEmpty())
+                .collect(Collectors.toList());
+    }
+
+    /** Returns the keywords as given, before normalization. */
+    public List<String> getKeywords() {
+        return keywords;
     }
 
     @Override
     public boolean test(Person person) {
-        String name = person.getName().fullName;
-        String phone = person.getPhone().toString();
-        String email = person.getEmail().toString();
-        String address = person.getAddress().toString();
-        String faculty = String.valueOf(person.getFaculty());
-        String year = String.valueOf(person.getYearOfStudy());
+        SearchKeys keys = person.getSearchKeys();
+        for (String kw : normalizedKeywords) {
+            if (keys.anyFieldContains(kw) || isYearPrefixMatch(kw, keys.getYear())) {
+                return true;
+            }
+        }
+        return false;
+    }
 
-        return keywords.stream().anyMatch(raw -> {
-            String kw = raw == null ? "" : raw.trim().toLowerCase();
-            if (kw.isEmpty()) {
+    /**
+     * Returns {@code true} if {@code other} is also a {@code NameContainsKeywordsPredicate} and each keyword of this
+     * predicate contains one of its keywords, so any field containing the former also contains the latter.
+     * Keywords of the form "y" followed by digits are not compared, since they also match on year of study.
+     */
+    @Override
+    public boolean isRefinementOf(Predicate<Person> other) {
+        if (!(other instanceof NameContainsKeywordsPredicate)) {
+            return false;
+        }
+        List<String> otherKeywords = ((NameContainsKeywordsPredicate) other).normalizedKeywords;
+        for (String kw : normalizedKeywords) {
+            if (isYearKeyword(kw) || otherKeywords.stream().noneMatch(kw::contains)) {
                 return false;
             }
-            // Match Y2, y2, Y3, y3, etc. to numeric years
-            boolean yearPrefixMatch = false;
-            if (kw.matches("y\\d+")) {
-                String numberPart = kw.substring(1);
-                yearPrefixMatch = numberPart.equals(year);
-            }
-            return name.toLowerCase().contains(kw)
-                    || phone.toLowerCase().contains(kw)
-                    || email.toLowerCase().contains(kw)
-                    || address.toLowerCase().contains(kw)
-                    || faculty.toLowerCase().contains(kw)
-                    || year.toLowerCase().contains(kw)
-                    || yearPrefixMatch;
-        });
+        }
+        return true;
+    }
+
+    /** Returns true if {@code kw} is "y" followed by digits. */
+    private static boolean isYearKeyword(String kw) {
+        return kw.length() > 1 && kw.charAt(0) == 'y' && kw.substring(1).chars().allMatch(Character::isDigit);
+    }
+
+    /**
+     * Returns true if {@code kw} is "y" followed by {@code year}, so that Y2, y2, Y3, y3, etc. match numeric years.
+     */
+    private static boolean isYearPrefixMatch(String kw, String year) {
+        return kw.length() == year.length() + 1 && kw.charAt(0) == 'y'
+                && Character.isDigit(kw.charAt(1)) && kw.endsWith(year);
     }
 
     @Override
@@ -62,6 +91,11 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
         return keywords.equals(otherNameContainsKeywordsPredicate.keywords);
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("keywords", keywords).toString();
@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.function.Predicate;
 
 import seedu.address.model.person.Person;
+import seedu.address.model.person.SearchKeys;
 
 /**
  * Tests that a {@link Person}'s name matches a set of query tokens using
@@ -22,11 +23,11 @@ import seedu.address.model.person.Person;
  * </pre>
  * </p>
  *
- * <p><b>Implementation note:</b> Matching is performed by lower-casing both the tokens and the name,
- * splitting the name on one or more whitespace characters, and checking
- * {@code word.startsWith(token)} for each token against any word.</p>
+ * <p><b>Implementation note:</b> Matching is performed by lower-casing the tokens and checking
+ * {@code word.startsWith(token)} against the lower-cased name words that the person's
+ * {@link seedu.address.model.person.SearchKeys} hold, so testing a person does not allocate.</p>
  */
-public final class NamePrefixPredicate implements Predicate<Person> {
+public final class NamePrefixPredicate implements RefinablePredicate {
 
     /** Lower-cased query tokens. An empty list means "match all". */
     private final List<String> tokens;
@@ -70,9 +71,28 @@ public final class NamePrefixPredicate implements Predicate<Person> {
         if (tokens.isEmpty()) {
             return true;
         }
-        String[] words = person.getName().fullName.toLowerCase().split("\\s+");
-        return tokens.stream()
-                .allMatch(t -> Arrays.stream(words).anyMatch(w -> w.startsWith(t)));
+        SearchKeys keys = person.getSearchKeys();
+        for (String token : tokens) {
+            if (!keys.hasNameWordStartingWith(token)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns {@code true} if {@code other} is also a {@code NamePrefixPredicate} and each of its tokens is a prefix
+     * of some token of this predicate, so any word matching the latter also matches the former.
+     *
+     * @param other The predicate to compare with.
+     * @return {@code true} if this predicate only narrows down the matches of {@code other}.
+     */
+    @Override
+    public boolean isRefinementOf(Predicate<Person> other) {
+        if (!(other instanceof NamePrefixPredicate otherPred)) {
+            return false;
+        }
+        return otherPred.tokens.stream().allMatch(t -> tokens.stream().anyMatch(own -> own.startsWith(t)));
     }
 
     /**
@@ -0,0 +1,20 @@
+package seedu.address.model.person.predicates;
+
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A {@code Predicate} on {@link Person} that can tell when it only narrows down the matches of another predicate.
+ * Moving from a filter to a refinement of it then only needs to re-test the persons that the old filter matched.
+ */
+public interface RefinablePredicate extends Predicate<Person> {
+
+    /**
+     * Returns {@code true} if every person this predicate accepts is also accepted by {@code other}.
+     * May return {@code false} when that cannot be told cheaply.
+     *
+     * @param other The predicate to compare with; may be of any type.
+     */
+    boolean isRefinementOf(Predicate<Person> other);
+}
@@ -6,6 +6,7 @@ import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import seedu.address.model.person.Person;
+import seedu.address.model.person.SearchKeys;
 
 /**
  * Tests whether a {@link Person} matches a required set of tag name prefixes.
@@ -26,10 +27,12 @@ import seedu.address.model.person.Person;
  * </p>
  *
  * <p><b>Implementation note:</b> Both the required tag names and the person's tag names are
- * lower-cased prior to comparison. AND uses {@code has.containsAll(needed)}.
- * OR uses {@code needed.stream().anyMatch(has::contains)}.</p>
+ * lower-cased prior to comparison, the latter once per person in its
+ * {@link seedu.address.model.person.SearchKeys}. AND checks that every prefix starts some tag; OR checks that
+ * some prefix does. {@link seedu.address.model.person.TagIndex} returns the same matches without
+ * testing every person.</p>
  */
-public final class TagsPredicate implements Predicate<Person> {
+public final class TagsPredicate implements RefinablePredicate {
 
     /** Lower-cased tag prefixes that must match (all or any depending on {@link #any}). */
     private final Set<String> needed;
@@ -64,19 +67,49 @@ public final class TagsPredicate implements Predicate<Person> {
         if (needed.isEmpty()) {
             return true;
         }
-        Set<String> personTagsLower = person.getTags().stream()
-                .map(t -> t.tagName.toLowerCase())
-                .collect(Collectors.toSet());
-
-        if (any) {
-            // OR: any prefix must match at least one tag
-            return needed.stream().anyMatch(prefix ->
-                    personTagsLower.stream().anyMatch(tag -> tag.startsWith(prefix)));
+        SearchKeys keys = person.getSearchKeys();
+        for (String prefix : needed) {
+            boolean isMatched = keys.hasTagStartingWith(prefix);
+            if (any && isMatched) {
+                // OR: any prefix must match at least one tag
+                return true;
+            }
+            if (!any && !isMatched) {
+                // AND: every prefix must match at least one tag
+                return false;
+            }
         }
+        return !any;
+    }
+
+    /**
+     * Returns the lower-cased tag prefixes to match.
+     */
+    public Set<String> getPrefixes() {
+        return needed;
+    }
 
-        // AND: every prefix must match at least one tag
-        return needed.stream().allMatch(prefix ->
-                personTagsLower.stream().anyMatch(tag -> tag.startsWith(prefix)));
+    /**
+     * Returns {@code true} if a person may match any of the prefixes (OR) rather than all of them (AND).
+     */
+    public boolean isAny() {
+        return any;
+    }
+
+    /**
+     * Returns {@code true} if {@code other} is also an AND-mode {@code TagsPredicate} and this predicate, also in
+     * AND mode, has for each of its prefixes a prefix that starts with it. Any tag matching the latter then also
+     * matches the former.
+     *
+     * @param other The predicate to compare with.
+     * @return {@code true} if this predicate only narrows down the matches of {@code other}.
+     */
+    @Override
+    public boolean isRefinementOf(Predicate<Person> other) {
+        if (any || !(other instanceof TagsPredicate otherPred) || otherPred.any) {
+            return false;
+        }
+        return otherPred.needed.stream().allMatch(p -> needed.stream().anyMatch(own -> own.startsWith(p)));
     }
 
     /**
@@ -0,0 +1,156 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.ReadOnlyClubTrack;
+
+/**
+ * Saves {@link ReadOnlyClubTrack} snapshots through a {@link ClubTrackStorage} on a single background writer thread.
+ *
+ * Snapshots submitted for the same file while an earlier save is still pending are coalesced, so a burst of
+ * mutations results in a single write of the latest snapshot. Callers must only submit snapshots that are not
+ * modified afterwards. A failed save is kept, and rethrown by every call to {@link #checkForFailure()} or
+ * {@link #flush(long)}, until a later save to the same file succeeds. A save can also be deferred, in which case the
+ * snapshot is only taken when the delay runs out.
+ */
+public class AsyncClubTrackSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncClubTrackSaver.class);
+
+    private final ClubTrackStorage storage;
+    private final ScheduledThreadPoolExecutor writer = new ScheduledThreadPoolExecutor(1, runnable -> {
+        Thread thread = new Thread(runnable, "clubtrack-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // All fields below are guarded by this
+    private final Map<Path, ReadOnlyClubTrack> pending = new LinkedHashMap<>();
+    private boolean isWriting;
+    private final Map<Path, IOException> failures = new LinkedHashMap<>();
+
+    /**
+     * Constructs a saver that writes through {@code storage} on its own writer thread.
+     */
+    public AsyncClubTrackSaver(ClubTrackStorage storage) {
+        this.storage = requireNonNull(storage);
+        // Deferred saves still due at shutdown are dropped; callers flush what they need saved first
+        writer.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        writer.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * Schedules {@code snapshot} to be saved to {@code filePath}, replacing any snapshot still pending for that file.
+     */
+    public synchronized void submit(ReadOnlyClubTrack snapshot, Path filePath) {
+        requireNonNull(snapshot);
+        requireNonNull(filePath);
+        pending.put(filePath, snapshot);
+        if (!isWriting) {
+            isWriting = true;
+            writer.execute(this::drain);
+        }
+    }
+
+    /**
+     * Schedules the snapshot returned by {@code snapshot} to be saved to {@code filePath} once {@code delayMillis}
+     * have passed. {@code snapshot} is called on the writer thread at that time, so it must be safe to call from any
+     * thread. Cancelling the returned future before then drops the save.
+     */
+    public Future<?> submitLater(Supplier<? extends ReadOnlyClubTrack> snapshot, Path filePath, long delayMillis) {
+        requireNonNull(snapshot);
+        requireNonNull(filePath);
+        return writer.schedule(() -> submit(snapshot.get(), filePath), delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Rethrows the failure of an earlier save, if any. The failure is kept until a later save to the same file
+     * succeeds, so callers must submit the data again to clear it.
+     */
+    public synchronized void checkForFailure() throws IOException {
+        if (!failures.isEmpty()) {
+            throw failures.values().iterator().next();
+        }
+    }
+
+    /**
+     * Blocks until all submitted snapshots are saved or {@code timeoutMillis} elapses, then reports any failure.
+     *
+     * @throws IOException if an earlier save failed or the pending saves did not complete in time.
+     */
+    public synchronized void flush(long timeoutMillis) throws IOException {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (isWriting) {
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                throw new IOException("Timed out waiting for pending saves to complete");
+            }
+            try {
+                wait(remaining);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while waiting for pending saves to complete", e);
+            }
+        }
+        checkForFailure();
+    }
+
+    /**
+     * Flushes pending saves within {@code timeoutMillis} and stops the writer thread.
+     *
+     * @see #flush(long)
+     */
+    public void shutdown(long timeoutMillis) throws IOException {
+        try {
+            flush(timeoutMillis);
+        } finally {
+            writer.shutdown();
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            Path filePath;
+            ReadOnlyClubTrack snapshot;
+            synchronized (this) {
+                if (pending.isEmpty()) {
+                    isWriting = false;
+                    notifyAll();
+                    return;
+                }
+                Iterator<Map.Entry<Path, ReadOnlyClubTrack>> iterator = pending.entrySet().iterator();
+                Map.Entry<Path, ReadOnlyClubTrack> next = iterator.next();
+                iterator.remove();
+                filePath = next.getKey();
+                snapshot = next.getValue();
+            }
+            save(snapshot, filePath);
+        }
+    }
+
+    private void save(ReadOnlyClubTrack snapshot, Path filePath) {
+        try {
+            storage.saveClubTrack(snapshot, filePath);
+            synchronized (this) {
+                failures.remove(filePath);
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.warning("Failed to save data to " + filePath + ": " + e.getMessage());
+            synchronized (this) {
+                failures.put(filePath, e instanceof IOException ? (IOException) e : new IOException(e.getMessage(), e));
+            }
+        }
+    }
+}
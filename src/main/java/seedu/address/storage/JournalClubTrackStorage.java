@@ -0,0 +1,314 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ClubTrack;
+import seedu.address.model.ReadOnlyClubTrack;
+import seedu.address.model.person.Person;
+
+/**
+ * A {@link JsonClubTrackStorage} that saves changes as small records appended to a journal file instead of
+ * rewriting the whole JSON file on every save.
+ *
+ * The JSON file acts as a snapshot. The journal lives next to it (with a {@code .journal} suffix) and holds one
+ * {@link JsonAdaptedJournalRecord} per added, edited or deleted member, preceded by a header holding the random
+ * generation id written into the snapshot it applies to. Saving compares the given data with the last data read
+ * from or written to the same file and appends only the difference. Once the journal grows beyond the compaction
+ * threshold, or the difference cannot be expressed cheaply, a fresh snapshot is written under a new generation and
+ * the journal is discarded. A journal whose generation does not match its snapshot is moved aside rather than
+ * replayed, so that no data is lost.
+ */
+public class JournalClubTrackStorage extends JsonClubTrackStorage {
+
+    /** Journal size in bytes beyond which the next save writes a fresh snapshot. */
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 256 * 1024;
+
+    static final String JOURNAL_SUFFIX = ".journal";
+    static final String STALE_JOURNAL_SUFFIX = ".stale";
+
+    private static final Logger logger = LogsCenter.getLogger(JournalClubTrackStorage.class);
+
+    private final long compactionThreshold;
+
+    /** Members last read from or written to each file, for files whose journal can be appended to. */
+    private final Map<Path, List<Person>> lastKnown = new HashMap<>();
+    /** Generation of the snapshot of each file in {@link #lastKnown}. */
+    private final Map<Path, String> generations = new HashMap<>();
+
+    public JournalClubTrackStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Constructs a {@code JournalClubTrackStorage} that compacts once a journal exceeds {@code compactionThreshold}
+     * bytes.
+     */
+    public JournalClubTrackStorage(Path filePath, long compactionThreshold) {
+        super(filePath);
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    /**
+     * Returns the path of the journal belonging to the data file at {@code filePath}.
+     */
+    public static Path getJournalPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_SUFFIX);
+    }
+
+    @Override
+    public synchronized Optional<ReadOnlyClubTrack> readClubTrack(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        lastKnown.remove(filePath);
+        generations.remove(filePath);
+
+        Optional<JsonClubTrackCodec.Document> snapshot = readDocument(filePath);
+        if (!snapshot.isPresent()) {
+            return Optional.empty();
+        }
+
+        List<Person> persons = new ArrayList<>(snapshot.get().clubTrack.getPersonList());
+        String generation = snapshot.get().generation;
+        boolean isJournalIntact = replayJournal(persons, filePath, generation);
+        ClubTrack clubTrack = toClubTrack(persons, filePath);
+        if (isJournalIntact && generation != null) {
+            lastKnown.put(filePath, persons);
+            generations.put(filePath, generation);
+        }
+        return Optional.of(clubTrack);
+    }
+
+    /**
+     * Returns a {@code ClubTrack} of {@code persons}, the replayed contents of the data file at {@code filePath}.
+     *
+     * @throws DataLoadingException if {@code persons} contains duplicate members.
+     */
+    private static ClubTrack toClubTrack(List<Person> persons, Path filePath) throws DataLoadingException {
+        ClubTrack.Builder builder = new ClubTrack.Builder();
+        for (Person person : persons) {
+            if (builder.hasPerson(person)) {
+                logger.info("Duplicate members found in " + filePath + " after replaying its journal");
+                throw new DataLoadingException(
+                        new IllegalValueException(JsonSerializableClubTrack.MESSAGE_DUPLICATE_PERSONS));
+            }
+            builder.addPerson(person);
+        }
+        return builder.build();
+    }
+
+    @Override
+    public synchronized void saveClubTrack(ReadOnlyClubTrack addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        List<Person> current = new ArrayList<>(addressBook.getPersonList());
+        List<Person> previous = lastKnown.remove(filePath);
+        List<JsonAdaptedJournalRecord> records = previous == null || !Files.exists(filePath)
+                ? null
+                : diff(previous, current);
+
+        if (records == null || records.size() > previous.size() / 2 || isJournalFull(filePath)) {
+            writeSnapshot(addressBook, filePath);
+        } else if (!records.isEmpty()) {
+            appendToJournal(records, filePath, generations.get(filePath));
+        }
+        lastKnown.put(filePath, current);
+    }
+
+    /**
+     * Returns the records that turn {@code previous} into {@code current} when applied in order, or {@code null} if
+     * {@code current} cannot be reached by editing members in place, deleting members and appending members.
+     * Members are compared by reference, since unchanged members are shared between successive snapshots.
+     */
+    static List<JsonAdaptedJournalRecord> diff(List<Person> previous, List<Person> current) {
+        Set<Person> previousSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        previousSet.addAll(previous);
+        Set<Person> currentSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        currentSet.addAll(current);
+
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        int i = 0;
+        int j = 0;
+        // Invariant: the first j members of the replayed list are current[0..j)
+        while (i < previous.size() && j < current.size()) {
+            Person before = previous.get(i);
+            Person after = current.get(j);
+            if (before == after) {
+                i++;
+                j++;
+            } else if (currentSet.contains(before)) {
+                // A member was inserted or moved in front of a kept member
+                return null;
+            } else if (previousSet.contains(after)) {
+                records.add(JsonAdaptedJournalRecord.delete(j));
+                i++;
+            } else {
+                records.add(JsonAdaptedJournalRecord.set(j, after));
+                i++;
+                j++;
+            }
+        }
+        for (; i < previous.size(); i++) {
+            if (currentSet.contains(previous.get(i))) {
+                return null;
+            }
+            records.add(JsonAdaptedJournalRecord.delete(j));
+        }
+        for (; j < current.size(); j++) {
+            if (previousSet.contains(current.get(j))) {
+                return null;
+            }
+            records.add(JsonAdaptedJournalRecord.add(current.get(j)));
+        }
+        return records;
+    }
+
+    private boolean isJournalFull(Path filePath) throws IOException {
+        Path journalPath = getJournalPath(filePath);
+        return Files.exists(journalPath) && Files.size(journalPath) > compactionThreshold;
+    }
+
+    private void writeSnapshot(ReadOnlyClubTrack addressBook, Path filePath) throws IOException {
+        // The snapshot is written first: if deleting the journal fails, its header no longer matches the snapshot
+        generations.remove(filePath);
+        String generation = UUID.randomUUID().toString();
+        super.saveClubTrack(addressBook, filePath, generation);
+        Files.deleteIfExists(getJournalPath(filePath));
+        generations.put(filePath, generation);
+    }
+
+    private void appendToJournal(List<JsonAdaptedJournalRecord> records, Path filePath, String generation)
+            throws IOException {
+        Path journalPath = getJournalPath(filePath);
+        StringBuilder lines = new StringBuilder();
+        if (!Files.exists(journalPath)) {
+            lines.append(JsonUtil.toCompactJsonString(JournalHeader.of(generation))).append('\n');
+        }
+        for (JsonAdaptedJournalRecord record : records) {
+            lines.append(JsonUtil.toCompactJsonString(record)).append('\n');
+        }
+        Files.write(journalPath, lines.toString().getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Applies the journal of the data file at {@code filePath}, whose snapshot has {@code generation}, to
+     * {@code persons}. A journal of another generation is moved aside instead. Replay stops at the first unreadable
+     * line, which is what an interrupted append leaves behind.
+     *
+     * @return true if the journal is missing or was replayed completely, so that it can be appended to.
+     * @throws DataLoadingException if the journal could not be read or a record does not fit the data.
+     */
+    private boolean replayJournal(List<Person> persons, Path filePath, String generation)
+            throws DataLoadingException {
+        Path journalPath = getJournalPath(filePath);
+        if (!Files.exists(journalPath)) {
+            return true;
+        }
+
+        JournalHeader header;
+        try (BufferedReader reader = Files.newBufferedReader(journalPath, StandardCharsets.UTF_8)) {
+            String line = reader.readLine();
+            header = line == null ? new JournalHeader() : parseHeader(line);
+            if (header.matches(generation)) {
+                return replayRecords(persons, reader, journalPath);
+            }
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + journalPath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from journal file " + journalPath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+        keepStaleJournal(journalPath, header);
+        return false;
+    }
+
+    /**
+     * Applies the records left in {@code reader} to {@code persons}.
+     *
+     * @return true if every record was replayed, or false if replay stopped at an unreadable record.
+     */
+    private static boolean replayRecords(List<Person> persons, BufferedReader reader, Path journalPath)
+            throws IOException, IllegalValueException {
+        String line;
+        int replayed = 0;
+        while ((line = reader.readLine()) != null) {
+            JsonAdaptedJournalRecord record;
+            try {
+                record = JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord.class);
+            } catch (IOException e) {
+                logger.warning("Stopped replaying " + journalPath + " at an unreadable record: " + e.getMessage());
+                return false;
+            }
+            record.applyTo(persons);
+            replayed++;
+        }
+        logger.fine("Replayed " + replayed + " journal record(s) from " + journalPath);
+        return true;
+    }
+
+    /**
+     * Moves the journal at {@code journalPath}, which does not belong to the current snapshot, out of the way of the
+     * next save, so that its records can still be recovered by hand.
+     */
+    private static void keepStaleJournal(Path journalPath, JournalHeader header) {
+        String staleGeneration = header.snapshotGeneration != null ? header.snapshotGeneration : "unknown";
+        Path stalePath = journalPath.resolveSibling(
+                journalPath.getFileName() + "." + staleGeneration + STALE_JOURNAL_SUFFIX);
+        logger.warning("Journal " + journalPath + " does not belong to the current snapshot. Keeping it as "
+                + stalePath);
+        try {
+            Files.move(journalPath, stalePath, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException ioe) {
+            logger.warning("Could not move stale journal " + journalPath + ": " + ioe);
+        }
+    }
+
+    private static JournalHeader parseHeader(String line) {
+        try {
+            return JsonUtil.fromJsonString(line, JournalHeader.class);
+        } catch (IOException e) {
+            return new JournalHeader();
+        }
+    }
+
+    /**
+     * First line of a journal, identifying the snapshot the journal applies to by its generation.
+     */
+    static class JournalHeader {
+        private String snapshotGeneration;
+
+        static JournalHeader of(String snapshotGeneration) {
+            JournalHeader header = new JournalHeader();
+            header.snapshotGeneration = requireNonNull(snapshotGeneration);
+            return header;
+        }
+
+        /** Returns true if this header belongs to the snapshot with {@code generation}. */
+        boolean matches(String generation) {
+            return snapshotGeneration != null && snapshotGeneration.equals(generation);
+        }
+    }
+}
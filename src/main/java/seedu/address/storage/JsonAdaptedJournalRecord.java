@@ -0,0 +1,87 @@
+package seedu.address.storage;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ClubTrack;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of a single mutation of a {@link ClubTrack}, as stored in a journal file.
+ * Members are addressed by their position in the list, so records must be replayed in the order they were written.
+ * Records are replayed onto a plain list of members, because a single save may move an email or phone from one member
+ * to another through records that only make the list unique again once all of them are applied.
+ */
+class JsonAdaptedJournalRecord {
+
+    public static final String MESSAGE_INVALID_RECORD = "Journal record is invalid: %s";
+
+    /**
+     * Kinds of mutation that can be journaled.
+     */
+    enum Operation { ADD, SET, DELETE }
+
+    private final Operation op;
+    private final Integer index;
+    private final JsonAdaptedPerson person;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("op") Operation op, @JsonProperty("index") Integer index,
+            @JsonProperty("person") JsonAdaptedPerson person) {
+        this.op = op;
+        this.index = index;
+        this.person = person;
+    }
+
+    /** Returns a record that appends {@code added} to the end of the list. */
+    public static JsonAdaptedJournalRecord add(Person added) {
+        return new JsonAdaptedJournalRecord(Operation.ADD, null, new JsonAdaptedPerson(added));
+    }
+
+    /** Returns a record that replaces the member at {@code index} with {@code edited}. */
+    public static JsonAdaptedJournalRecord set(int index, Person edited) {
+        return new JsonAdaptedJournalRecord(Operation.SET, index, new JsonAdaptedPerson(edited));
+    }
+
+    /** Returns a record that deletes the member at {@code index}. */
+    public static JsonAdaptedJournalRecord delete(int index) {
+        return new JsonAdaptedJournalRecord(Operation.DELETE, index, null);
+    }
+
+    /**
+     * Applies this record to {@code persons}. Uniqueness is not checked here, since it only holds once all records of
+     * a save have been applied.
+     *
+     * @throws IllegalValueException if the record is malformed or does not fit the current contents of
+     *     {@code persons}.
+     */
+    public void applyTo(List<Person> persons) throws IllegalValueException {
+        if (op == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, "missing operation"));
+        }
+        if (op != Operation.DELETE && person == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, "missing person"));
+        }
+        if (op != Operation.ADD && (index == null || index < 0 || index >= persons.size())) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, "index out of range"));
+        }
+
+        switch (op) {
+        case ADD:
+            persons.add(person.toModelType());
+            break;
+        case SET:
+            persons.set(index, person.toModelType());
+            break;
+        default:
+            persons.remove((int) index);
+            break;
+        }
+    }
+}
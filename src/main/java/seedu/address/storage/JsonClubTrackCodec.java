@@ -0,0 +1,157 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ClubTrack;
+import seedu.address.model.ReadOnlyClubTrack;
+import seedu.address.model.person.Person;
+
+/**
+ * Reads and writes ClubTrack data in the {@link JsonSerializableClubTrack} format one member at a time.
+ * Members are streamed through a {@link JsonParser} or {@link JsonGenerator} with a shared reader and writer for
+ * {@link JsonAdaptedPerson}, so neither the file contents nor the adapted form of the whole list is held in memory.
+ * The parser and generator buffer their input and output themselves.
+ *
+ * A file may also carry a generation, an id that files written alongside it can refer to in order to identify the
+ * exact version of the file they belong to.
+ */
+class JsonClubTrackCodec {
+
+    private static final String PERSONS_FIELD = "persons";
+    private static final String GENERATION_FIELD = "generation";
+
+    private static final ObjectReader PERSON_READER = JsonUtil.readerFor(JsonAdaptedPerson.class);
+    // Members are written into one document, so flushing after each of them would defeat the output buffer
+    private static final ObjectWriter PERSON_WRITER = JsonUtil.writerFor(JsonAdaptedPerson.class)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+    private final boolean isPrettyPrinted;
+
+    /**
+     * Constructs a codec that writes indented output if {@code isPrettyPrinted}, or a single line otherwise.
+     * Both forms can be read back.
+     */
+    JsonClubTrackCodec(boolean isPrettyPrinted) {
+        this.isPrettyPrinted = isPrettyPrinted;
+    }
+
+    /**
+     * Reads the members in {@code in}. The stream is not closed.
+     *
+     * @throws IOException if {@code in} could not be read or is not in the expected format.
+     * @throws IllegalValueException if a member violates data constraints or is a duplicate.
+     */
+    ClubTrack read(InputStream in) throws IOException, IllegalValueException {
+        return readDocument(in).clubTrack;
+    }
+
+    /**
+     * Similar to {@link #read(InputStream)}, but also returns the generation the data was written with.
+     */
+    Document readDocument(InputStream in) throws IOException, IllegalValueException {
+        requireNonNull(in);
+        ClubTrack.Builder builder = new ClubTrack.Builder();
+        String generation = null;
+        try (JsonParser parser = PERSON_READER.getFactory().createParser(in)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a JSON object");
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (PERSONS_FIELD.equals(fieldName) && value == JsonToken.START_ARRAY) {
+                    readPersons(parser, builder);
+                } else if (GENERATION_FIELD.equals(fieldName) && value == JsonToken.VALUE_STRING) {
+                    generation = parser.getText();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            if (token != JsonToken.END_OBJECT) {
+                throw new JsonParseException(parser, "Unexpected end of JSON object");
+            }
+        }
+        return new Document(builder.build(), generation);
+    }
+
+    private static void readPersons(JsonParser parser, ClubTrack.Builder builder)
+            throws IOException, IllegalValueException {
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            JsonAdaptedPerson adaptedPerson = PERSON_READER.readValue(parser);
+            if (adaptedPerson == null) {
+                throw new JsonParseException(parser, "Expected a person");
+            }
+            Person person = adaptedPerson.toModelType();
+            if (builder.hasPerson(person)) {
+                throw new IllegalValueException(JsonSerializableClubTrack.MESSAGE_DUPLICATE_PERSONS);
+            }
+            builder.addPerson(person);
+        }
+    }
+
+    /**
+     * Writes the members of {@code clubTrack} to {@code out}. The stream is flushed but not closed.
+     *
+     * @throws IOException if there was an error writing to {@code out}.
+     */
+    void write(ReadOnlyClubTrack clubTrack, OutputStream out) throws IOException {
+        write(clubTrack, null, out);
+    }
+
+    /**
+     * Writes the members of {@code clubTrack} to {@code out}, marked with {@code generation} unless it is null.
+     * The stream is flushed but not closed.
+     *
+     * @throws IOException if there was an error writing to {@code out}.
+     */
+    void write(ReadOnlyClubTrack clubTrack, String generation, OutputStream out) throws IOException {
+        requireNonNull(clubTrack);
+        requireNonNull(out);
+        try (JsonGenerator generator = PERSON_WRITER.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            if (isPrettyPrinted) {
+                generator.useDefaultPrettyPrinter();
+            }
+            generator.writeStartObject();
+            if (generation != null) {
+                generator.writeStringField(GENERATION_FIELD, generation);
+            }
+            generator.writeArrayFieldStart(PERSONS_FIELD);
+            for (Person person : clubTrack.getPersonList()) {
+                PERSON_WRITER.writeValue(generator, new JsonAdaptedPerson(person));
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Members read from a file, together with the generation the file was written with, or null if it has none.
+     */
+    static class Document {
+        final ClubTrack clubTrack;
+        final String generation;
+
+        Document(ClubTrack clubTrack, String generation) {
+            this.clubTrack = clubTrack;
+            this.generation = generation;
+        }
+    }
+}
@@ -3,6 +3,9 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -11,7 +14,6 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyClubTrack;
 
 /**
@@ -22,9 +24,19 @@ public class JsonClubTrackStorage implements ClubTrackStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonClubTrackStorage.class);
 
     private Path filePath;
+    private final JsonClubTrackCodec codec;
 
     public JsonClubTrackStorage(Path filePath) {
+        this(filePath, true);
+    }
+
+    /**
+     * Constructs a {@code JsonClubTrackStorage} that writes indented JSON if {@code isPrettyPrinted}, or compact
+     * single-line JSON otherwise. Files in either form can be read.
+     */
+    public JsonClubTrackStorage(Path filePath, boolean isPrettyPrinted) {
         this.filePath = filePath;
+        this.codec = new JsonClubTrackCodec(isPrettyPrinted);
     }
 
     public Path getClubTrackFilePath() {
@@ -43,19 +55,28 @@ public class JsonClubTrackStorage implements ClubTrackStorage {
      * @throws DataLoadingException if loading the data from storage failed.
      */
     public Optional<ReadOnlyClubTrack> readClubTrack(Path filePath) throws DataLoadingException {
+        return readDocument(filePath).map(document -> document.clubTrack);
+    }
+
+    /**
+     * Similar to {@link #readClubTrack(Path)}, but also returns the generation the file was saved with.
+     */
+    Optional<JsonClubTrackCodec.Document> readDocument(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableClubTrack> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableClubTrack.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
+        logger.info("JSON file " + filePath + " found.");
 
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+        try (InputStream in = Files.newInputStream(filePath)) {
+            return Optional.of(codec.readDocument(in));
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
         }
     }
 
@@ -70,11 +91,21 @@ public class JsonClubTrackStorage implements ClubTrackStorage {
      * @param filePath location of the data. Cannot be null.
      */
     public void saveClubTrack(ReadOnlyClubTrack addressBook, Path filePath) throws IOException {
+        saveClubTrack(addressBook, filePath, null);
+    }
+
+    /**
+     * Similar to {@link #saveClubTrack(ReadOnlyClubTrack, Path)}, but marks the file with {@code generation} unless
+     * it is null.
+     */
+    void saveClubTrack(ReadOnlyClubTrack addressBook, Path filePath, String generation) throws IOException {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableClubTrack(addressBook), filePath);
+        try (OutputStream out = Files.newOutputStream(filePath)) {
+            codec.write(addressBook, generation, out);
+        }
     }
 
 }
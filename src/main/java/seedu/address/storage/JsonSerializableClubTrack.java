@@ -46,15 +46,15 @@ class JsonSerializableClubTrack {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public ClubTrack toModelType() throws IllegalValueException {
-        ClubTrack clubTrack = new ClubTrack();
+        ClubTrack.Builder builder = new ClubTrack.Builder();
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
             Person person = jsonAdaptedPerson.toModelType();
-            if (clubTrack.hasPerson(person)) {
+            if (builder.hasPerson(person)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_PERSONS);
             }
-            clubTrack.addPerson(person);
+            builder.addPerson(person);
         }
-        return clubTrack;
+        return builder.build();
     }
 
 }
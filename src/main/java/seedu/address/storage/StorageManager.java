@@ -45,6 +45,11 @@ public class StorageManager implements Storage {
         userPrefsStorage.saveUserPrefs(userPrefs);
     }
 
+    @Override
+    public boolean saveUserPrefsIfChanged(ReadOnlyUserPrefs userPrefs) throws IOException {
+        return userPrefsStorage.saveUserPrefsIfChanged(userPrefs);
+    }
+
 
     // ================ AddressBook methods ==============================
 
@@ -33,4 +33,13 @@ public interface UserPrefsStorage {
      */
     void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException;
 
+    /**
+     * Saves the given {@link seedu.address.model.ReadOnlyUserPrefs} to the storage, unless the storage already holds
+     * them unchanged.
+     * @param userPrefs cannot be null.
+     * @return true if the storage was written.
+     * @throws IOException if there was any problem reading or writing the file.
+     */
+    boolean saveUserPrefsIfChanged(ReadOnlyUserPrefs userPrefs) throws IOException;
+
 }
@@ -1,22 +1,37 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletableFuture;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
+import seedu.address.logic.commands.CheckInCommand;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
+ *
+ * In check-in mode, every line entered is an email or phone number to check in, so that members can be checked in one
+ * after another by scanning or typing, without typing the command word. The text is cleared after every line, even a
+ * failed one, so that the next scan starts afresh. Esc leaves the mode.
+ *
+ * Commands complete in the background, so more can be entered while earlier ones are still running. A command's text
+ * is only cleared, or marked as failed, if it has not been edited in the meantime.
  */
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
+    public static final String CHECK_IN_STYLE_CLASS = "check-in";
     private static final String FXML = "CommandBox.fxml";
+    private static final String CHECK_IN_PROMPT = "Check-in: scan or type an email or phone number (Esc to leave)";
 
     private final CommandExecutor commandExecutor;
+    private Runnable onCheckInModeExit = () -> { };
+    private boolean isCheckInMode;
+    private String defaultPrompt;
 
     @FXML
     private TextField commandTextField;
@@ -29,6 +44,43 @@ public class CommandBox extends UiPart<Region> {
         this.commandExecutor = commandExecutor;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        commandTextField.addEventHandler(KeyEvent.KEY_PRESSED, event -> {
+            if (isCheckInMode && event.getCode() == KeyCode.ESCAPE) {
+                exitCheckInMode();
+                event.consume();
+            }
+        });
+    }
+
+    /**
+     * Sets the action to run when check-in mode is left.
+     */
+    public void setOnCheckInModeExit(Runnable onCheckInModeExit) {
+        this.onCheckInModeExit = onCheckInModeExit;
+    }
+
+    /**
+     * Switches to check-in mode. Has no effect if already in check-in mode.
+     */
+    public void enterCheckInMode() {
+        if (isCheckInMode) {
+            return;
+        }
+        isCheckInMode = true;
+        defaultPrompt = commandTextField.getPromptText();
+        commandTextField.setPromptText(CHECK_IN_PROMPT);
+        commandTextField.getStyleClass().add(CHECK_IN_STYLE_CLASS);
+    }
+
+    /**
+     * Leaves check-in mode and runs the action set by {@link #setOnCheckInModeExit(Runnable)}.
+     */
+    private void exitCheckInMode() {
+        isCheckInMode = false;
+        commandTextField.setText("");
+        commandTextField.setPromptText(defaultPrompt);
+        commandTextField.getStyleClass().remove(CHECK_IN_STYLE_CLASS);
+        onCheckInModeExit.run();
     }
 
     /**
@@ -41,12 +93,33 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
-        try {
-            commandExecutor.execute(commandText);
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
+        if (isCheckInMode) {
+            handleCheckInEntered(commandText);
+            return;
         }
+
+        commandExecutor.execute(commandText).whenComplete((unused, error) -> {
+            if (!commandTextField.getText().equals(commandText)) {
+                return;
+            }
+            if (error != null) {
+                setStyleToIndicateCommandFailure();
+            } else {
+                commandTextField.setText("");
+            }
+        });
+    }
+
+    /**
+     * Checks in the member identified by {@code key}, then clears the text whether or not the check-in succeeded.
+     */
+    private void handleCheckInEntered(String key) {
+        commandTextField.setText("");
+        commandExecutor.execute(CheckInCommand.COMMAND_WORD + " " + key).whenComplete((unused, error) -> {
+            if (error != null && commandTextField.getText().isEmpty()) {
+                setStyleToIndicateCommandFailure();
+            }
+        });
     }
 
     /**
@@ -75,11 +148,12 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Starts executing the command and returns its result, which completes on the UI thread. The result completes
+         * exceptionally if the command failed.
          *
          * @see seedu.address.logic.Logic#execute(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        CompletableFuture<CommandResult> execute(String commandText);
     }
 
 }
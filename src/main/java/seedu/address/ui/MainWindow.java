@@ -1,5 +1,6 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
 import javafx.event.ActionEvent;
@@ -13,7 +14,10 @@ import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.CommandQueue;
 import seedu.address.logic.Logic;
+import seedu.address.logic.commands.CheckInCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -24,18 +28,22 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class MainWindow extends UiPart<Stage> {
 
+    public static final String MESSAGE_LOADING = "Loading members from %1$s...";
+
     private static final String FXML = "MainWindow.fxml";
 
     private final Logger logger = LogsCenter.getLogger(getClass());
 
     private Stage primaryStage;
     private Logic logic;
+    private CommandQueue commandQueue;
 
     // Independent Ui parts residing in this Ui container
     private PersonListPanel personListPanel;
     private ResultDisplay resultDisplay;
     private HelpWindow helpWindow;
     private StatusBarFooter statusBarFooter;
+    private CommandBox commandBox;
 
     @FXML
     private StackPane commandBoxPlaceholder;
@@ -60,14 +68,16 @@ public class MainWindow extends UiPart<Stage> {
     private Label helpOverlayContent;
 
     /**
-     * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}.
+     * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}, running commands through
+     * {@code commandQueue}.
      */
-    public MainWindow(Stage primaryStage, Logic logic) {
+    public MainWindow(Stage primaryStage, Logic logic, CommandQueue commandQueue) {
         super(FXML, primaryStage);
 
         // Set dependencies
         this.primaryStage = primaryStage;
         this.logic = logic;
+        this.commandQueue = commandQueue;
 
         // Configure the UI
         setWindowDefaultSize(logic.getGuiSettings());
@@ -129,13 +139,24 @@ public class MainWindow extends UiPart<Stage> {
         fillResultDisplay();
         fillStatusBarFooter();
         fillCommandBox();
+        if (logic.isLoading()) {
+            resultDisplay.setFeedbackToUser(String.format(MESSAGE_LOADING, commandQueue.getClubTrackFilePath()));
+        }
+    }
+
+    /**
+     * Shows the data read at startup in place of the loading state.
+     */
+    void handleDataLoaded(String feedbackToUser) {
+        resultDisplay.setFeedbackToUser(feedbackToUser);
+        updateStatusBar();
     }
 
     /**
      * Initializes and fills the person list panel.
      */
     private void fillPersonListPanel() {
-        personListPanel = new PersonListPanel(logic.getFilteredPersonList());
+        personListPanel = new PersonListPanel(commandQueue.getDisplayedPersonList());
         personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
     }
 
@@ -151,15 +172,17 @@ public class MainWindow extends UiPart<Stage> {
      * Initializes and fills the status bar footer.
      */
     private void fillStatusBarFooter() {
-        statusBarFooter = new StatusBarFooter(logic.getClubTrackFilePath());
+        statusBarFooter = new StatusBarFooter(commandQueue.getClubTrackFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
+        updateStatusBar();
     }
 
     /**
      * Initializes and fills the command box.
      */
     private void fillCommandBox() {
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        commandBox = new CommandBox(this::executeCommand);
+        commandBox.setOnCheckInModeExit(this::handleCheckInModeExit);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
@@ -223,7 +246,10 @@ public class MainWindow extends UiPart<Stage> {
     private void handleExit() {
         GuiSettings guiSettings = new GuiSettings(primaryStage.getWidth(), primaryStage.getHeight(),
                 (int) primaryStage.getX(), (int) primaryStage.getY());
-        logic.setGuiSettings(guiSettings);
+        commandQueue.submit(() -> {
+            logic.setGuiSettings(guiSettings);
+            return null;
+        });
         helpWindow.hide();
         primaryStage.hide();
     }
@@ -233,58 +259,72 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Runs the command on the command thread, showing that it is in progress until it completes.
+     * The returned future completes on the UI thread once the result has been shown.
      *
      * @see seedu.address.logic.Logic#execute(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = executeCommandAndGetResult(commandText);
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        resultDisplay.showInProgress(commandText);
+        return commandQueue.execute(commandText).whenComplete((commandResult, error) -> {
+            if (error != null) {
+                handleCommandError(commandText, error);
+                return;
+            }
+            logger.info("Result: " + commandResult.getFeedbackToUser());
+            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
             handleCommandResult(commandResult);
             updateStatusBar();
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            handleCommandError(commandText, e);
-            throw e;
-        }
-    }
-
-    /**
-     * Executes the command and returns the result.
-     */
-    private CommandResult executeCommandAndGetResult(String commandText) throws CommandException, ParseException {
-        CommandResult commandResult = logic.execute(commandText);
-        logger.info("Result: " + commandResult.getFeedbackToUser());
-        resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
-        return commandResult;
+        });
     }
 
     /**
-     * Handles the command result by showing help or exiting if needed.
+     * Handles the command result by showing help, starting check-in mode or exiting if needed.
      */
     private void handleCommandResult(CommandResult commandResult) {
         if (commandResult.isShowHelp()) {
             handleHelp();
         }
+        if (commandResult.isStartCheckIn()) {
+            commandBox.enterCheckInMode();
+        }
         if (commandResult.isExit()) {
             handleExit();
         }
     }
 
     /**
-     * Updates the status bar with the current file path.
+     * Updates the status bar with the current file path and attendance counts.
      */
     private void updateStatusBar() {
         if (statusBarFooter != null) {
-            statusBarFooter.setSaveLocation(logic.getClubTrackFilePath());
+            statusBarFooter.setSaveLocation(commandQueue.getClubTrackFilePath());
+            statusBarFooter.setAttendance(commandQueue.getPresentCount(), commandQueue.getAbsentCount(),
+                    commandQueue.getUnmarkedCount());
         }
     }
 
+    /**
+     * Saves the check-ins still pending in a batch once check-in mode is left.
+     */
+    private void handleCheckInModeExit() {
+        commandQueue.submit(() -> {
+            logic.flush();
+            return null;
+        }).whenComplete((unused, error) -> {
+            resultDisplay.setFeedbackToUser(error != null ? error.getMessage() : CheckInCommand.MESSAGE_MODE_ENDED);
+            updateStatusBar();
+        });
+    }
+
     /**
      * Handles command execution errors.
      */
-    private void handleCommandError(String commandText, Exception e) {
+    private void handleCommandError(String commandText, Throwable e) {
         logger.info("An error occurred while executing command: " + commandText);
-        resultDisplay.setFeedbackToUser(e.getMessage());
+        if (!(e instanceof CommandException || e instanceof ParseException)) {
+            logger.severe("Unexpected error: " + StringUtil.getDetails(e));
+        }
+        resultDisplay.setFeedbackToUser(e.getMessage() != null ? e.getMessage() : e.toString());
     }
 }
@@ -1,6 +1,8 @@
 package seedu.address.ui;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
 
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
@@ -12,12 +14,18 @@ import seedu.address.model.person.Tag;
 
 /**
  * A UI component that displays information of a {@code Person}.
+ *
+ * A card can be rebound to another person with {@link #setPerson(Person, int)}, which updates the existing labels in
+ * place, so that list cells can reuse one card instead of loading the FXML again for every update. Tag labels are
+ * pooled: labels left over from a person with more tags are hidden rather than discarded.
  */
 public class PersonCard extends UiPart<Region> {
 
     private static final String FXML = "PersonListCard.fxml";
 
-    public final Person person;
+    private final List<Label> tagLabels = new ArrayList<>();
+    private Person person;
+    private int displayedIndex;
 
     @FXML private HBox cardPane;
     @FXML private Label name;
@@ -31,14 +39,40 @@ public class PersonCard extends UiPart<Region> {
     @FXML private FlowPane presencePane;
     @FXML private Label presence;
 
+    /**
+     * Creates a {@code PersonCard} that does not display any person yet.
+     */
+    public PersonCard() {
+        super(FXML);
+    }
+
     /**
      * Creates a {@code PersonCard} with the given {@code Person} and index to display.
      */
     public PersonCard(Person person, int displayedIndex) {
-        super(FXML);
+        this();
+        setPerson(person, displayedIndex);
+    }
+
+    /**
+     * Returns the person displayed by this card, or null if none has been set.
+     */
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Displays {@code person} with the given index, updating the labels of this card in place.
+     * Has no effect if the card already displays the same person instance at the same index.
+     */
+    public void setPerson(Person person, int displayedIndex) {
+        if (person == this.person && displayedIndex == this.displayedIndex) {
+            return;
+        }
         this.person = person;
+        this.displayedIndex = displayedIndex;
 
-        initializeBasicFields(displayedIndex);
+        initializeBasicFields();
         initializePointsField();
         initializeMetaField();
         initializePresenceField();
@@ -48,7 +82,7 @@ public class PersonCard extends UiPart<Region> {
     /**
      * Initializes basic person information fields.
      */
-    private void initializeBasicFields(int displayedIndex) {
+    private void initializeBasicFields() {
         id.setText(displayedIndex + ". ");
         name.setText(person.getName().fullName);
         phone.setText(person.getPhone().value);
@@ -157,20 +191,32 @@ public class PersonCard extends UiPart<Region> {
     }
 
     /**
-     * Initializes the tags by creating label components for each tag.
+     * Shows a label for each tag in the tags flow pane, reusing the pooled labels and hiding those not needed.
      */
     private void initializeTags() {
-        person.getTags().stream()
-                .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(this::addTag);
+        List<Tag> sortedTags = new ArrayList<>(person.getTags());
+        sortedTags.sort(Comparator.comparing(tag -> tag.tagName));
+        while (tagLabels.size() < sortedTags.size()) {
+            addTagLabel();
+        }
+        for (int i = 0; i < tagLabels.size(); i++) {
+            Label tagLabel = tagLabels.get(i);
+            boolean isUsed = i < sortedTags.size();
+            if (isUsed) {
+                tagLabel.setText(sortedTags.get(i).tagName);
+            }
+            tagLabel.setManaged(isUsed);
+            tagLabel.setVisible(isUsed);
+        }
     }
 
     /**
-     * Adds a single tag to the tags flow pane.
+     * Adds a new label to the pool of tag labels and to the tags flow pane.
      */
-    private void addTag(Tag tag) {
-        Label tagLabel = new Label(tag.tagName);
+    private void addTagLabel() {
+        Label tagLabel = new Label();
         tagLabel.getStyleClass().add("chip");
+        tagLabels.add(tagLabel);
         tags.getChildren().add(tagLabel);
     }
 }
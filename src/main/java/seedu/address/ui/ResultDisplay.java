@@ -11,6 +11,8 @@ import javafx.scene.layout.Region;
  */
 public class ResultDisplay extends UiPart<Region> {
 
+    public static final String MESSAGE_IN_PROGRESS = "Running: %1$s";
+
     private static final String FXML = "ResultDisplay.fxml";
 
     @FXML
@@ -25,4 +27,12 @@ public class ResultDisplay extends UiPart<Region> {
         resultDisplay.setText(feedbackToUser);
     }
 
+    /**
+     * Shows that {@code commandText} is being run, until the next feedback replaces it.
+     */
+    public void showInProgress(String commandText) {
+        requireNonNull(commandText);
+        resultDisplay.setText(String.format(MESSAGE_IN_PROGRESS, commandText));
+    }
+
 }
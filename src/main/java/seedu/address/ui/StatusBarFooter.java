@@ -14,9 +14,14 @@ public class StatusBarFooter extends UiPart<Region> {
 
     private static final String FXML = "StatusBarFooter.fxml";
 
+    private static final String ATTENDANCE_FORMAT = "Present: %1$d | Absent: %2$d | Unmarked: %3$d";
+
     @FXML
     private Label saveLocationStatus;
 
+    @FXML
+    private Label attendanceStatus;
+
     /**
      * Creates a {@code StatusBarFooter} with the given {@code Path}.
      */
@@ -36,4 +41,11 @@ public class StatusBarFooter extends UiPart<Region> {
         }
     }
 
+    /**
+     * Updates the attendance counts displayed in the status bar.
+     */
+    public void setAttendance(int present, int absent, int unmarked) {
+        attendanceStatus.setText(String.format(ATTENDANCE_FORMAT, present, absent, unmarked));
+    }
+
 }
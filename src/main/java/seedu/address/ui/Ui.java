@@ -10,4 +10,7 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /** Shows the data read at startup, with {@code feedbackToUser} about how loading went. */
+    void showDataLoaded(String feedbackToUser);
+
 }
@@ -10,6 +10,7 @@ import javafx.stage.Stage;
 import seedu.address.MainApp;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.CommandQueue;
 import seedu.address.logic.Logic;
 
 /**
@@ -23,13 +24,15 @@ public class UiManager implements Ui {
     private static final String ICON_APPLICATION = "/images/address_book_32.png";
 
     private Logic logic;
+    private CommandQueue commandQueue;
     private MainWindow mainWindow;
 
     /**
-     * Creates a {@code UiManager} with the given {@code Logic}.
+     * Creates a {@code UiManager} with the given {@code Logic}, running commands through {@code commandQueue}.
      */
-    public UiManager(Logic logic) {
+    public UiManager(Logic logic, CommandQueue commandQueue) {
         this.logic = logic;
+        this.commandQueue = commandQueue;
     }
 
     @Override
@@ -40,6 +43,13 @@ public class UiManager implements Ui {
         initializeMainWindow(primaryStage);
     }
 
+    @Override
+    public void showDataLoaded(String feedbackToUser) {
+        if (mainWindow != null) {
+            mainWindow.handleDataLoaded(feedbackToUser);
+        }
+    }
+
     /**
      * Configures the primary stage with icon.
      */
@@ -52,7 +62,7 @@ public class UiManager implements Ui {
      */
     private void initializeMainWindow(Stage primaryStage) {
         try {
-            mainWindow = new MainWindow(primaryStage, logic);
+            mainWindow = new MainWindow(primaryStage, logic, commandQueue);
             mainWindow.show(); //This should be called before creating other UI parts
             mainWindow.fillInnerParts();
 
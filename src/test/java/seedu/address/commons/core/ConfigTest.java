@@ -12,7 +12,10 @@ public class ConfigTest {
     public void toStringMethod() {
         Config config = new Config();
         String expected = Config.class.getCanonicalName() + "{logLevel=" + config.getLogLevel()
-                + ", userPrefsFilePath=" + config.getUserPrefsFilePath() + "}";
+                + ", userPrefsFilePath=" + config.getUserPrefsFilePath()
+                + ", listCacheMaxEntries=" + config.getListCacheMaxEntries()
+                + ", listCacheMaxBytes=" + config.getListCacheMaxBytes()
+                + ", undoHistoryMaxBytes=" + config.getUndoHistoryMaxBytes() + "}";
         assertEquals(expected, config.toString());
     }
 
@@ -2,6 +2,7 @@ package seedu.address.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.IOException;
@@ -101,6 +102,19 @@ public class ConfigUtilTest {
         assertEquals(original, readBack);
     }
 
+    @Test
+    public void saveConfigIfChanged_onlyWritesChanges() throws IOException {
+        Config config = getTypicalConfig();
+        Path configFilePath = tempDir.resolve("TempConfig.json");
+
+        assertTrue(ConfigUtil.saveConfigIfChanged(config, configFilePath));
+        assertFalse(ConfigUtil.saveConfigIfChanged(config, configFilePath));
+
+        config.setLogLevel(Level.FINE);
+        assertTrue(ConfigUtil.saveConfigIfChanged(config, configFilePath));
+        assertFalse(ConfigUtil.saveConfigIfChanged(config, configFilePath));
+    }
+
     private void save(Config config, String configFileInTestDataFolder) throws IOException {
         Path configFilePath = addToTestDataPathIfNotNull(configFileInTestDataFolder);
         ConfigUtil.saveConfig(config, configFilePath);
@@ -10,9 +10,11 @@ import java.nio.file.Paths;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ClubTrack;
@@ -22,7 +24,10 @@ import seedu.address.model.ReadOnlyClubTrack;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.JournalClubTrackStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
 
 /**
  * Unit tests for {@link ClubTrackListManager}.
@@ -31,6 +36,9 @@ public class ClubTrackListManagerTest {
 
     private static final Path DEFAULT_PATH = Paths.get("data", "ClubTrack.json");
 
+    @TempDir
+    public Path dataDir;
+
     private ClubTrackListManager listManager;
     private FakeStorage storage;
     private Model model;
@@ -135,6 +143,32 @@ public class ClubTrackListManagerTest {
         }
     }
 
+    @Test
+    public void switchToList_recentlyUsedLists_notReadAgain() throws Exception {
+        AtomicInteger reads = new AtomicInteger();
+        Storage fileStorage = new StorageManager(new JournalClubTrackStorage(dataDir.resolve("ClubTrack.json")),
+                new JsonUserPrefsStorage(dataDir.resolve("prefs.json"))) {
+            @Override
+            public Optional<ReadOnlyClubTrack> readClubTrack(Path filePath) throws DataLoadingException {
+                reads.incrementAndGet();
+                return super.readClubTrack(filePath);
+            }
+        };
+        ClubTrackListManager fileListManager = new ClubTrackListManager(fileStorage, dataDir);
+        fileStorage.saveClubTrack(SampleDataUtil.getSampleAddressBook(), dataDir.resolve("a.json"));
+        fileStorage.saveClubTrack(new ClubTrack(), dataDir.resolve("b.json"));
+        fileListManager.switchToList("a", model);
+        fileListManager.switchToList("b", model);
+        int readsAfterFirstVisit = reads.get();
+
+        fileListManager.switchToList("a", model);
+        assertEquals(SampleDataUtil.getSampleAddressBook(), model.getClubTrack());
+        fileListManager.switchToList("b", model);
+        assertEquals(new ClubTrack(), model.getClubTrack());
+
+        assertEquals(readsAfterFirstVisit, reads.get());
+    }
+
     /*
      * Minimal fake Storage implementation used for testing to simulate persisted address book files
      * without touching the real filesystem. Only the methods used by AddressBookListManager are
@@ -192,6 +226,11 @@ public class ClubTrackListManagerTest {
 
         }
 
+        @Override
+        public boolean saveUserPrefsIfChanged(ReadOnlyUserPrefs userPrefs) throws IOException {
+            return false;
+        }
+
         @Override
         public Path getUserPrefsFilePath() {
             return Paths.get("prefs.json");
@@ -0,0 +1,194 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.MarkCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.storage.JsonClubTrackStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class CommandQueueTest {
+
+    private static final long TIMEOUT_SECONDS = 5;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model;
+    private Logic logic;
+    private CommandQueue commandQueue;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        StorageManager storage = new StorageManager(
+                new JsonClubTrackStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(model, storage);
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        if (commandQueue != null) {
+            commandQueue.shutdown(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+        }
+        logic.shutdown();
+    }
+
+    @Test
+    public void submit_tasks_runInOrderOffCallingThread() throws Exception {
+        commandQueue = new CommandQueue(logic, Runnable::run);
+        List<Integer> order = new ArrayList<>();
+        List<String> threadNames = new ArrayList<>();
+
+        CompletableFuture<Integer> last = null;
+        for (int i = 0; i < 100; i++) {
+            int task = i;
+            last = commandQueue.submit(() -> {
+                order.add(task);
+                threadNames.add(Thread.currentThread().getName());
+                return task;
+            });
+        }
+
+        assertEquals(99, (int) last.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        for (int i = 0; i < order.size(); i++) {
+            assertEquals(i, (int) order.get(i));
+        }
+        assertNotEquals(Thread.currentThread().getName(), threadNames.get(0));
+    }
+
+    @Test
+    public void submit_taskThrowsError_completesExceptionally() throws Exception {
+        commandQueue = new CommandQueue(logic, Runnable::run);
+
+        Throwable error = commandQueue.submit(() -> {
+            throw new AssertionError();
+        }).handle((unused, thrown) -> thrown).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        assertTrue(error instanceof AssertionError);
+    }
+
+    @Test
+    public void execute_validCommand_publishesDisplayedList() throws Exception {
+        commandQueue = new CommandQueue(logic, Runnable::run);
+        int initialSize = commandQueue.getDisplayedPersonList().size();
+
+        commandQueue.execute(DeleteCommand.COMMAND_WORD + " 1").get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        assertEquals(initialSize - 1, commandQueue.getDisplayedPersonList().size());
+        assertEquals(model.getFilteredPersonList(), commandQueue.getDisplayedPersonList());
+    }
+
+    @Test
+    public void execute_markCommand_onlyMarkedMemberReplaced() throws Exception {
+        commandQueue = new CommandQueue(logic, Runnable::run);
+        List<Person> before = new ArrayList<>(commandQueue.getDisplayedPersonList());
+        AtomicInteger removed = new AtomicInteger();
+        commandQueue.getDisplayedPersonList().addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                removed.addAndGet(change.getRemovedSize());
+            }
+        });
+
+        commandQueue.execute(MarkCommand.COMMAND_WORD + " 2").get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        assertEquals(1, removed.get());
+        assertEquals(model.getFilteredPersonList(), commandQueue.getDisplayedPersonList());
+        for (int i = 0; i < before.size(); i++) {
+            if (i != 1) {
+                assertSame(before.get(i), commandQueue.getDisplayedPersonList().get(i));
+            }
+        }
+    }
+
+    @Test
+    public void execute_burstOfMixedCommands_displayedListMatchesModel() throws Exception {
+        ConcurrentLinkedQueue<Runnable> uiTasks = new ConcurrentLinkedQueue<>();
+        commandQueue = new CommandQueue(logic, uiTasks::add);
+
+        commandQueue.execute(MarkCommand.COMMAND_WORD + " 1");
+        commandQueue.execute(DeleteCommand.COMMAND_WORD + " 3");
+        commandQueue.execute(FindCommand.COMMAND_WORD + " Meier");
+        commandQueue.execute(MarkCommand.COMMAND_WORD + " 1");
+        commandQueue.execute(ListCommand.COMMAND_WORD);
+        commandQueue.execute(DeleteCommand.COMMAND_WORD + " 1");
+        commandQueue.shutdown(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+        for (Runnable uiTask : uiTasks) {
+            uiTask.run();
+        }
+
+        assertEquals(model.getFilteredPersonList(), commandQueue.getDisplayedPersonList());
+    }
+
+    @Test
+    public void execute_markCommand_publishesAttendanceCounts() throws Exception {
+        commandQueue = new CommandQueue(logic, Runnable::run);
+
+        commandQueue.execute(MarkCommand.COMMAND_WORD + " 1").get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        assertEquals(model.getPresentCount(), commandQueue.getPresentCount());
+        assertEquals(model.getAbsentCount(), commandQueue.getAbsentCount());
+        assertEquals(model.getUnmarkedCount(), commandQueue.getUnmarkedCount());
+    }
+
+    @Test
+    public void execute_invalidCommand_completesExceptionally() throws Exception {
+        commandQueue = new CommandQueue(logic, Runnable::run);
+
+        Throwable error = commandQueue.execute("uicfhmowqewca").handle((unused, thrown) -> thrown)
+                .get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        assertTrue(error instanceof ParseException);
+    }
+
+    @Test
+    public void execute_burstOfCommands_displayedListUpdatedOnce() throws Exception {
+        ConcurrentLinkedQueue<Runnable> uiTasks = new ConcurrentLinkedQueue<>();
+        commandQueue = new CommandQueue(logic, uiTasks::add);
+        AtomicInteger updates = new AtomicInteger();
+        commandQueue.getDisplayedPersonList().addListener((ListChangeListener<Person>) change ->
+                updates.incrementAndGet());
+
+        List<CompletableFuture<?>> results = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            results.add(commandQueue.execute(MarkCommand.COMMAND_WORD + " " + i));
+        }
+        commandQueue.shutdown(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+        for (Runnable uiTask : uiTasks) {
+            uiTask.run();
+        }
+
+        assertEquals(1, updates.get());
+        assertEquals(model.getFilteredPersonList(), commandQueue.getDisplayedPersonList());
+        for (CompletableFuture<?> result : results) {
+            assertTrue(result.isDone());
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.ClubTrack;
+import seedu.address.storage.JsonClubTrackStorage;
+
+public class ListCacheTest {
+
+    @TempDir
+    public Path dataDir;
+
+    @Test
+    public void get_unchangedFile_returnsCachedData() throws Exception {
+        Path listFile = save("a.json", getTypicalAddressBook());
+        ListCache cache = new ListCache(2, Long.MAX_VALUE);
+
+        cache.put(listFile, getTypicalAddressBook());
+
+        assertEquals(getTypicalAddressBook(), cache.get(listFile).get());
+    }
+
+    @Test
+    public void get_changedFile_dropsEntry() throws Exception {
+        Path listFile = save("a.json", getTypicalAddressBook());
+        ListCache cache = new ListCache(2, Long.MAX_VALUE);
+        cache.put(listFile, getTypicalAddressBook());
+
+        save("a.json", new ClubTrack());
+        Files.setLastModifiedTime(listFile, FileTime.fromMillis(0));
+
+        assertFalse(cache.get(listFile).isPresent());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void put_dataChangedAfterwards_cachedCopyUnchanged() throws Exception {
+        ClubTrack data = new ClubTrack();
+        data.addPerson(ALICE);
+        Path listFile = save("a.json", data);
+        ListCache cache = new ListCache(2, Long.MAX_VALUE);
+
+        cache.put(listFile, data);
+        data.addPerson(BENSON);
+
+        assertEquals(1, cache.get(listFile).get().getPersonList().size());
+    }
+
+    @Test
+    public void put_missingFile_notCached() {
+        ListCache cache = new ListCache(2, Long.MAX_VALUE);
+
+        cache.put(dataDir.resolve("missing.json"), getTypicalAddressBook());
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void put_tooManyLists_evictsLeastRecentlyUsed() throws Exception {
+        Path a = save("a.json", new ClubTrack());
+        Path b = save("b.json", new ClubTrack());
+        Path c = save("c.json", new ClubTrack());
+        ListCache cache = new ListCache(2, Long.MAX_VALUE);
+
+        cache.put(a, new ClubTrack());
+        cache.put(b, new ClubTrack());
+        cache.get(a);
+        cache.put(c, new ClubTrack());
+
+        assertTrue(cache.get(a).isPresent());
+        assertFalse(cache.get(b).isPresent());
+        assertTrue(cache.get(c).isPresent());
+    }
+
+    @Test
+    public void put_tooManyBytes_evictsLeastRecentlyUsed() throws Exception {
+        Path a = save("a.json", getTypicalAddressBook());
+        Path b = save("b.json", getTypicalAddressBook());
+        long bytes = ListCache.estimateBytes(getTypicalAddressBook());
+        ListCache cache = new ListCache(10, bytes * 3 / 2);
+
+        cache.put(a, getTypicalAddressBook());
+        cache.put(b, getTypicalAddressBook());
+
+        assertFalse(cache.get(a).isPresent());
+        assertTrue(cache.get(b).isPresent());
+        assertEquals(bytes, cache.getTotalBytes());
+    }
+
+    @Test
+    public void put_listLargerThanLimit_notCached() throws Exception {
+        Path listFile = save("a.json", getTypicalAddressBook());
+        ListCache cache = new ListCache(10, ListCache.estimateBytes(getTypicalAddressBook()) - 1);
+
+        cache.put(listFile, getTypicalAddressBook());
+
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getTotalBytes());
+    }
+
+    private Path save(String fileName, ClubTrack data) throws Exception {
+        Path listFile = dataDir.resolve(fileName);
+        new JsonClubTrackStorage(listFile).saveClubTrack(data);
+        return listFile;
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -8,21 +10,41 @@ import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.AttendanceCommand;
+import seedu.address.logic.commands.CheckInCommand;
+import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.MarkCommand;
+import seedu.address.logic.commands.PointsCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.SearchCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ClubTrack;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyClubTrack;
@@ -30,14 +52,15 @@ import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
 import seedu.address.storage.JsonClubTrackStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.testutil.PersonBuilder;
 
 public class LogicManagerTest {
-    @SuppressWarnings("unused")
     private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy IO exception");
     @SuppressWarnings("unused")
     private static final IOException DUMMY_AD_EXCEPTION = new AccessDeniedException("dummy access denied exception");
+    private static final long HOUR_MILLIS = 60 * 60 * 1000;
 
     @TempDir
     public Path temporaryFolder;
@@ -72,6 +95,193 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void flush_afterCommand_writesModelToFile() throws Exception {
+        Path filePath = temporaryFolder.resolve("flushed.json");
+        JsonClubTrackStorage addressBookStorage = new JsonClubTrackStorage(filePath);
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+        model.setClubTrackFilePath(filePath);
+
+        logic.execute(ClearCommand.COMMAND_WORD);
+        logic.flush();
+
+        assertEquals(model.getClubTrack(), addressBookStorage.readClubTrack(filePath).get());
+    }
+
+    @Test
+    public void flush_afterFailedSave_savesAgain() throws Exception {
+        Path filePath = temporaryFolder.resolve("retried.json");
+        boolean[] isDiskFull = {true};
+        JsonClubTrackStorage addressBookStorage = new JsonClubTrackStorage(filePath) {
+            @Override
+            public void saveClubTrack(ReadOnlyClubTrack addressBook, Path filePath) throws IOException {
+                if (isDiskFull[0]) {
+                    throw DUMMY_IO_EXCEPTION;
+                }
+                super.saveClubTrack(addressBook, filePath);
+            }
+        };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+        model.setClubTrackFilePath(filePath);
+
+        logic.execute(ClearCommand.COMMAND_WORD);
+        assertThrows(CommandException.class, logic::flush);
+
+        // no command changed the data since, but the failed save must still be retried
+        isDiskFull[0] = false;
+        logic.flush();
+
+        assertEquals(model.getClubTrack(), addressBookStorage.readClubTrack(filePath).get());
+    }
+
+    @Test
+    public void flush_saveFailed_throwsCommandException() throws Exception {
+        useStorageThatThrows(DUMMY_IO_EXCEPTION);
+        logic.execute(ClearCommand.COMMAND_WORD);
+        assertThrows(CommandException.class,
+                String.format(LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()), logic::flush);
+    }
+
+    @Test
+    public void execute_readOnlyCommands_noFileWrites() throws Exception {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        AtomicInteger saveCount = useCountingStorage();
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute(PointsCommand.COMMAND_WORD + " 1");
+        logic.execute(FindCommand.COMMAND_WORD + " alice");
+        logic.execute(SearchCommand.COMMAND_WORD + " t/friends");
+        logic.execute(AttendanceCommand.COMMAND_WORD);
+        logic.execute(HelpCommand.COMMAND_WORD);
+        logic.flush();
+
+        assertEquals(0, saveCount.get());
+    }
+
+    @Test
+    public void execute_mutatingCommand_writesOnce() throws Exception {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        AtomicInteger saveCount = useCountingStorage();
+
+        logic.execute(MarkCommand.COMMAND_WORD + " 1");
+        logic.flush();
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.flush();
+
+        assertEquals(1, saveCount.get());
+    }
+
+    @Test
+    public void execute_checkIns_savedInOneBatchOnFlush() throws Exception {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        AtomicInteger saveCount = useCountingStorage(new ManualClock(), HOUR_MILLIS);
+
+        logic.execute(CheckInCommand.COMMAND_WORD + " " + ALICE.getEmail());
+        logic.execute(CheckInCommand.COMMAND_WORD + " " + BENSON.getPhone());
+        logic.execute(CheckInCommand.COMMAND_WORD + " " + CARL.getEmail());
+        assertEquals(0, saveCount.get());
+
+        logic.flush();
+        assertEquals(1, saveCount.get());
+        assertEquals(3, model.getPresentCount());
+    }
+
+    @Test
+    public void execute_checkInAfterInterval_savesBatch() throws Exception {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        ManualClock clock = new ManualClock();
+        AtomicInteger saveCount = useCountingStorage(clock, HOUR_MILLIS);
+
+        logic.execute(CheckInCommand.COMMAND_WORD + " " + ALICE.getEmail());
+        clock.advance(HOUR_MILLIS);
+        // the interval is up, so this check-in saves both
+        logic.execute(CheckInCommand.COMMAND_WORD + " " + BENSON.getPhone());
+        awaitSaveCount(saveCount, 1);
+        // a new batch starts, which the flush saves
+        logic.execute(CheckInCommand.COMMAND_WORD + " " + CARL.getEmail());
+        logic.flush();
+
+        assertEquals(2, saveCount.get());
+    }
+
+    @Test
+    public void execute_checkInThenIdle_savedWhenIntervalRunsOut() throws Exception {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        AtomicInteger saveCount = useCountingStorage(new ManualClock(), 10);
+
+        logic.execute(CheckInCommand.COMMAND_WORD + " " + ALICE.getEmail());
+        awaitSaveCount(saveCount, 1);
+        assertEquals(1, saveCount.get());
+
+        // the deferred save already holds the check-in, so the flush does not save it again
+        logic.flush();
+        assertEquals(1, saveCount.get());
+    }
+
+    @Test
+    public void execute_fullBatchOfCheckIns_savesWithoutFlush() throws Exception {
+        ClubTrack clubTrack = new ClubTrack();
+        for (int i = 0; i < LogicManager.CHECK_IN_SAVE_BATCH_SIZE; i++) {
+            clubTrack.addPerson(new PersonBuilder().withEmail("member" + i + "@example.com")
+                    .withPhone(String.valueOf(80000000 + i)).build());
+        }
+        model = new ModelManager(clubTrack, new UserPrefs());
+        AtomicInteger saveCount = useCountingStorage();
+
+        for (int i = 0; i < LogicManager.CHECK_IN_SAVE_BATCH_SIZE; i++) {
+            logic.execute(CheckInCommand.COMMAND_WORD + " member" + i + "@example.com");
+        }
+        logic.flush();
+
+        assertEquals(1, saveCount.get());
+    }
+
+    @Test
+    public void execute_undoRedo_movesBetweenCommands() throws Exception {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        useCountingStorage();
+
+        logic.execute(MarkCommand.COMMAND_WORD + " 1");
+        ReadOnlyClubTrack marked = new ClubTrack(model.getClubTrack());
+        logic.execute(ClearCommand.COMMAND_WORD);
+        logic.execute(ListCommand.COMMAND_WORD);
+
+        assertEquals(UndoCommand.MESSAGE_SUCCESS, logic.execute(UndoCommand.COMMAND_WORD).getFeedbackToUser());
+        assertEquals(marked, model.getClubTrack());
+        logic.execute(UndoCommand.COMMAND_WORD);
+        assertEquals(getTypicalAddressBook(), model.getClubTrack());
+        assertCommandException(UndoCommand.COMMAND_WORD, UndoCommand.MESSAGE_FAILURE);
+
+        logic.execute(RedoCommand.COMMAND_WORD);
+        assertEquals(marked, model.getClubTrack());
+    }
+
+    @Test
+    public void execute_whileLoading_throwsCommandException() {
+        logic.startLoading();
+        assertTrue(logic.isLoading());
+        assertCommandException(ListCommand.COMMAND_WORD, LogicManager.MESSAGE_STILL_LOADING);
+    }
+
+    @Test
+    public void finishLoading_loadedData_shownWithoutSaving() throws Exception {
+        AtomicInteger saveCount = useCountingStorage();
+        logic.startLoading();
+
+        logic.finishLoading(getTypicalAddressBook());
+        logic.flush();
+
+        assertFalse(logic.isLoading());
+        assertEquals(getTypicalAddressBook().getPersonList(), model.getFilteredPersonList());
+        assertEquals(0, saveCount.get());
+
+        logic.execute(MarkCommand.COMMAND_WORD + " 1");
+        logic.flush();
+        assertEquals(1, saveCount.get());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -147,6 +357,56 @@ public class LogicManagerTest {
         assertEquals(expectedModelManager.getUserPrefs(), actualModelManager.getUserPrefs());
     }
 
+    /**
+     * Waits up to five seconds for {@code saveCount} to reach {@code expected}.
+     */
+    private static void awaitSaveCount(AtomicInteger saveCount, int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (saveCount.get() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    /**
+     * Replaces {@code logic} with one whose storage counts every save, and returns the counter.
+     */
+    private AtomicInteger useCountingStorage() {
+        return useCountingStorage(Clock.systemUTC(), LogicManager.CHECK_IN_SAVE_INTERVAL_MILLIS);
+    }
+
+    /**
+     * Similar to {@link #useCountingStorage()}, but times check-ins with {@code clock} and saves them at least every
+     * {@code checkInSaveIntervalMillis}.
+     */
+    private AtomicInteger useCountingStorage(Clock clock, long checkInSaveIntervalMillis) {
+        AtomicInteger saveCount = new AtomicInteger();
+        JsonClubTrackStorage addressBookStorage = new JsonClubTrackStorage(temporaryFolder.resolve("ab.json")) {
+            @Override
+            public void saveClubTrack(ReadOnlyClubTrack addressBook, Path filePath) throws IOException {
+                saveCount.incrementAndGet();
+                super.saveClubTrack(addressBook, filePath);
+            }
+        };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        Storage storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        logic = new LogicManager(model, storage, new ClubTrackListManager(storage), clock, checkInSaveIntervalMillis);
+        return saveCount;
+    }
+
+    /**
+     * Replaces {@code logic} with one whose storage throws {@code e} on every save.
+     */
+    private void useStorageThatThrows(IOException e) {
+        JsonClubTrackStorage addressBookStorage = new JsonClubTrackStorage(temporaryFolder.resolve("ab.json")) {
+            @Override
+            public void saveClubTrack(ReadOnlyClubTrack addressBook, Path filePath) throws IOException {
+                throw e;
+            }
+        };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+    }
+
     /**
      * Tests the Logic component's handling of an {@code IOException} thrown by the Storage component.
      *
@@ -181,4 +441,35 @@ public class LogicManagerTest {
         expectedModel.addPerson(expectedPerson);
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
+
+    /**
+     * A clock that only moves when told to.
+     */
+    private static class ManualClock extends Clock {
+        private long millis;
+
+        void advance(long deltaMillis) {
+            millis += deltaMillis;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+    }
 }
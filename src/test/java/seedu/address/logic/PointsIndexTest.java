@@ -0,0 +1,126 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ClubTrack;
+import seedu.address.model.ReadOnlyClubTrack;
+import seedu.address.storage.JsonClubTrackStorage;
+import seedu.address.testutil.PersonBuilder;
+
+public class PointsIndexTest {
+
+    @TempDir
+    public Path dataDir;
+
+    private CountingStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        storage = new CountingStorage(dataDir.resolve("unused.json"));
+    }
+
+    @Test
+    public void refresh_multipleLists_sumsPointsByIdentity() throws Exception {
+        storage.saveClubTrack(listOf(5), dataDir.resolve("a.json"));
+        storage.saveClubTrack(listOf(3), dataDir.resolve("b.json"));
+
+        PointsIndex index = new PointsIndex();
+        index.refresh(dataDir, storage);
+
+        assertEquals(8, (int) index.getTotal(PointsIndex.identityKeyOf(ALICE)));
+        assertEquals(2, storage.reads);
+    }
+
+    @Test
+    public void refresh_unchangedLists_doesNotReadAgain() throws Exception {
+        storage.saveClubTrack(listOf(5), dataDir.resolve("a.json"));
+        PointsIndex index = new PointsIndex();
+        index.refresh(dataDir, storage);
+
+        index.refresh(dataDir, storage);
+
+        assertEquals(1, storage.reads);
+    }
+
+    @Test
+    public void record_savedList_replacesPreviousEntry() throws Exception {
+        Path listFile = dataDir.resolve("a.json");
+        storage.saveClubTrack(listOf(5), listFile);
+        PointsIndex index = new PointsIndex();
+        index.refresh(dataDir, storage);
+
+        ReadOnlyClubTrack updated = listOf(7);
+        storage.saveClubTrack(updated, listFile);
+        index.record(listFile, updated);
+        index.refresh(dataDir, storage);
+
+        assertEquals(7, (int) index.getTotal(PointsIndex.identityKeyOf(ALICE)));
+        assertEquals(1, storage.reads);
+    }
+
+    @Test
+    public void refresh_deletedList_dropsEntry() throws Exception {
+        Path listFile = dataDir.resolve("a.json");
+        storage.saveClubTrack(listOf(5), listFile);
+        PointsIndex index = new PointsIndex();
+        index.refresh(dataDir, storage);
+
+        Files.delete(listFile);
+        index.refresh(dataDir, storage);
+
+        assertNull(index.getTotal(PointsIndex.identityKeyOf(ALICE)));
+    }
+
+    @Test
+    public void saveAndLoad_roundTrip_keepsTotalsWithoutRereading() throws Exception {
+        storage.saveClubTrack(listOf(5), dataDir.resolve("a.json"));
+        storage.saveClubTrack(listOf(3), dataDir.resolve("b.json"));
+        PointsIndex index = new PointsIndex();
+        index.refresh(dataDir, storage);
+        Path indexFile = dataDir.resolve(PointsIndex.FILE_NAME);
+        index.saveIfDirty(indexFile);
+
+        PointsIndex reloaded = PointsIndex.load(indexFile);
+        reloaded.refresh(dataDir, storage);
+
+        assertEquals(8, (int) reloaded.getTotal(PointsIndex.identityKeyOf(ALICE)));
+        assertEquals(0, (int) reloaded.getTotal(PointsIndex.identityKeyOf(BENSON)));
+        assertEquals(2, storage.reads);
+    }
+
+    private static ReadOnlyClubTrack listOf(int alicePoints) {
+        ClubTrack clubTrack = new ClubTrack();
+        clubTrack.addPerson(new PersonBuilder(ALICE).withPoints(alicePoints).build());
+        clubTrack.addPerson(new PersonBuilder(BENSON).withPoints(0).build());
+        return clubTrack;
+    }
+
+    /**
+     * A {@code JsonClubTrackStorage} that counts how many list files were read.
+     */
+    private static class CountingStorage extends JsonClubTrackStorage {
+        private int reads;
+
+        CountingStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public Optional<ReadOnlyClubTrack> readClubTrack(Path filePath) throws DataLoadingException {
+            reads++;
+            return super.readClubTrack(filePath);
+        }
+    }
+}
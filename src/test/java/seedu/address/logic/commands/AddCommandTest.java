@@ -10,6 +10,10 @@ import static seedu.address.testutil.TypicalPersons.ALICE;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -19,10 +23,13 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.ClubTrack;
+import seedu.address.model.ClubTrackSnapshot;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyClubTrack;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.person.Email;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddCommandTest {
@@ -133,6 +140,46 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public long getClubTrackVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ClubTrackSnapshot getClubTrackSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitClubTrack() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndoClubTrack() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedoClubTrack() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undoClubTrack() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redoClubTrack() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void resetClubTrackHistory() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             throw new AssertionError("This method should not be called.");
@@ -148,6 +195,56 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Optional<Set<Person>> getSearchCandidates(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Set<Person>> getTagMatches(Collection<String> prefixes, boolean any) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Person> findPersonByEmail(Email email) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Person> findPersonByPhone(Phone phone) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int getPresentCount() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int getAbsentCount() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int getUnmarkedCount() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> getPresentPersons() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getTopPersonsByPoints(int n) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int getPointsRank(Person person) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
             throw new AssertionError("This method should not be called.");
@@ -157,6 +254,11 @@ public class AddCommandTest {
         public void updateFilteredPersonList(Predicate<Person> predicate) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public void updateFilteredPersonList(Predicate<Person> predicate, Set<Person> candidates) {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
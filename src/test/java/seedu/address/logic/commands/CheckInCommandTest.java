@@ -0,0 +1,93 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Phone;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for CheckInCommand.
+ */
+public class CheckInCommandTest {
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_byEmail_marksPresent() {
+        String expectedMessage = String.format(CheckInCommand.MESSAGE_CHECK_IN_SUCCESS, ALICE.getName());
+        ModelManager expectedModel = new ModelManager(model.getClubTrack(), new UserPrefs());
+        expectedModel.setPerson(ALICE, new PersonBuilder(ALICE).withPresent(true).build());
+
+        assertCommandSuccess(new CheckInCommand(ALICE.getEmail()), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_byPhoneOfMemberNotShown_marksPresent() {
+        model.updateFilteredPersonList(person -> false);
+        String expectedMessage = String.format(CheckInCommand.MESSAGE_CHECK_IN_SUCCESS, BENSON.getName());
+        ModelManager expectedModel = new ModelManager(model.getClubTrack(), new UserPrefs());
+        expectedModel.setPerson(BENSON, new PersonBuilder(BENSON).withPresent(true).build());
+        expectedModel.updateFilteredPersonList(person -> false);
+
+        assertCommandSuccess(new CheckInCommand(BENSON.getPhone()), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_alreadyPresent_noChange() {
+        model.setPerson(ALICE, new PersonBuilder(ALICE).withPresent(true).build());
+        long version = model.getClubTrackVersion();
+
+        CommandResult result = assertDoesNotThrowCommandException(new CheckInCommand(ALICE.getEmail()));
+
+        assertEquals(String.format(CheckInCommand.MESSAGE_ALREADY_CHECKED_IN, ALICE.getName()),
+                result.getFeedbackToUser());
+        assertEquals(version, model.getClubTrackVersion());
+    }
+
+    @Test
+    public void execute_unknownMember_throwsCommandException() {
+        Email unknown = new Email("nobody@example.com");
+        assertCommandFailure(new CheckInCommand(unknown), model,
+                String.format(CheckInCommand.MESSAGE_MEMBER_NOT_FOUND, unknown));
+    }
+
+    @Test
+    public void execute_noMember_startsCheckInMode() {
+        CommandResult result = assertDoesNotThrowCommandException(new CheckInCommand());
+        assertTrue(result.isStartCheckIn());
+        assertEquals(CheckInCommand.MESSAGE_MODE_STARTED, result.getFeedbackToUser());
+    }
+
+    @Test
+    public void equals() {
+        CheckInCommand byEmail = new CheckInCommand(ALICE.getEmail());
+
+        assertTrue(byEmail.equals(byEmail));
+        assertTrue(byEmail.equals(new CheckInCommand(new Email(ALICE.getEmail().value))));
+        assertFalse(byEmail.equals(new CheckInCommand(BENSON.getEmail())));
+        assertFalse(byEmail.equals(new CheckInCommand(new Phone(ALICE.getPhone().value))));
+        assertFalse(byEmail.equals(new CheckInCommand()));
+        assertFalse(byEmail.equals(null));
+    }
+
+    private CommandResult assertDoesNotThrowCommandException(Command command) {
+        try {
+            return command.execute(model);
+        } catch (Exception e) {
+            throw new AssertionError("Execution of command should not fail.", e);
+        }
+    }
+}
@@ -10,13 +10,16 @@ import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.predicates.NameContainsKeywordsPredicate;
+import seedu.address.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -132,6 +135,16 @@ public class FindCommandTest {
                 expectedModel);
     }
 
+    @Test
+    public void execute_matchingPersonEditedAfterFind_stillListed() {
+        new FindCommand(preparePredicate("Kurz")).execute(model);
+
+        Person editedCarl = new PersonBuilder(CARL).withAddress("Somewhere else").build();
+        model.setPerson(CARL, editedCarl);
+
+        assertEquals(List.of(editedCarl), model.getFilteredPersonList());
+    }
+
     @Test
     public void toStringMethod() {
         NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("keyword"));
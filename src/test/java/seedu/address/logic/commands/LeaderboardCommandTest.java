@@ -0,0 +1,54 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.ClubTrack;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.testutil.PersonBuilder;
+
+public class LeaderboardCommandTest {
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_topMembers_equalPointsShareRank() {
+        model.setPerson(BENSON, new PersonBuilder(BENSON).withPoints(20).build());
+        model.setPerson(CARL, new PersonBuilder(CARL).withPoints(20).build());
+        model.setPerson(ALICE, new PersonBuilder(ALICE).withPoints(5).build());
+        Model expectedModel = new ModelManager(model.getClubTrack(), new UserPrefs());
+
+        String expectedMessage = String.format(LeaderboardCommand.MESSAGE_SUCCESS, 3)
+            + "\n" + String.format(LeaderboardCommand.MESSAGE_ENTRY, 1, BENSON.getName(), 20)
+            + "\n" + String.format(LeaderboardCommand.MESSAGE_ENTRY, 1, CARL.getName(), 20)
+            + "\n" + String.format(LeaderboardCommand.MESSAGE_ENTRY, 3, ALICE.getName(), 5);
+
+        assertCommandSuccess(new LeaderboardCommand(3), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_noMembers_showsNoMembersMessage() {
+        Model emptyModel = new ModelManager(new ClubTrack(), new UserPrefs());
+        assertCommandSuccess(new LeaderboardCommand(LeaderboardCommand.DEFAULT_SIZE), emptyModel,
+            LeaderboardCommand.MESSAGE_NO_MEMBERS, new ModelManager(new ClubTrack(), new UserPrefs()));
+    }
+
+    @Test
+    public void equals() {
+        LeaderboardCommand topFive = new LeaderboardCommand(5);
+
+        assertTrue(topFive.equals(topFive));
+        assertTrue(topFive.equals(new LeaderboardCommand(5)));
+        assertFalse(topFive.equals(new LeaderboardCommand(3)));
+        assertFalse(topFive.equals(null));
+    }
+}
@@ -0,0 +1,42 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class RankCommandTest {
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_validIndex_success() {
+        model.setPerson(CARL, new PersonBuilder(CARL).withPoints(30).build());
+        Person benson = new PersonBuilder(BENSON).withPoints(10).build();
+        model.setPerson(BENSON, benson);
+        Model expectedModel = new ModelManager(model.getClubTrack(), new UserPrefs());
+
+        String expectedMessage = String.format(RankCommand.MESSAGE_SUCCESS, benson.getName(), 2,
+            model.getClubTrack().getPersonList().size(), 10);
+
+        assertCommandSuccess(new RankCommand(INDEX_SECOND_PERSON), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_invalidIndex_throwsCommandException() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 1);
+        assertCommandFailure(new RankCommand(outOfBoundIndex), model, Messages.MESSAGE_INVALID_MEMBER_DISPLAYED_INDEX);
+    }
+}
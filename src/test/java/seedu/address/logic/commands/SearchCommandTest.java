@@ -0,0 +1,39 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.predicates.TagsPredicate;
+import seedu.address.testutil.PersonBuilder;
+
+public class SearchCommandTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_tagPrefix_listsMatchingMembers() {
+        CommandResult result = new SearchCommand(new TagsPredicate(List.of("owe"), false)).execute(model);
+
+        assertEquals("1 member(s) found", result.getFeedbackToUser());
+        assertEquals(List.of(BENSON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_matchingPersonEditedAfterSearch_stillListed() {
+        new SearchCommand(new TagsPredicate(List.of("owe"), false)).execute(model);
+
+        Person editedBenson = new PersonBuilder(BENSON).withAddress("Somewhere else").build();
+        model.setPerson(BENSON, editedBenson);
+
+        assertEquals(List.of(editedBenson), model.getFilteredPersonList());
+    }
+}
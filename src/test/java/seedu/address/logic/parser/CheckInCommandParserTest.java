@@ -0,0 +1,36 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.CheckInCommand;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Phone;
+
+public class CheckInCommandParserTest {
+
+    private final CheckInCommandParser parser = new CheckInCommandParser();
+
+    @Test
+    public void parse_noArgs_startsCheckInMode() {
+        assertParseSuccess(parser, "   ", new CheckInCommand());
+    }
+
+    @Test
+    public void parse_email_returnsCheckInByEmail() {
+        assertParseSuccess(parser, " alice@example.com ", new CheckInCommand(new Email("alice@example.com")));
+    }
+
+    @Test
+    public void parse_phone_returnsCheckInByPhone() {
+        assertParseSuccess(parser, " 94351253", new CheckInCommand(new Phone("94351253")));
+    }
+
+    @Test
+    public void parse_invalidKey_throwsParseException() {
+        assertParseFailure(parser, "alice@", Email.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "12", Phone.MESSAGE_CONSTRAINTS);
+    }
+}
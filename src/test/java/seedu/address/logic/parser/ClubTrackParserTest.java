@@ -15,6 +15,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.AttendanceCommand;
+import seedu.address.logic.commands.CheckInCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
@@ -22,7 +23,11 @@ import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.LeaderboardCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RankCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.predicates.NameContainsKeywordsPredicate;
@@ -89,11 +94,38 @@ public class ClubTrackParserTest {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD + " 3") instanceof ListCommand);
     }
 
+    @Test
+    public void parseCommand_undoRedo() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD + " 3") instanceof RedoCommand);
+    }
+
     @Test
     public void parseCommand_attendance() throws Exception {
         assertTrue(parser.parseCommand("attendance") instanceof AttendanceCommand);
     }
 
+    @Test
+    public void parseCommand_leaderboard() throws Exception {
+        assertEquals(new LeaderboardCommand(LeaderboardCommand.DEFAULT_SIZE),
+                parser.parseCommand(LeaderboardCommand.COMMAND_WORD));
+        assertEquals(new LeaderboardCommand(3), parser.parseCommand(LeaderboardCommand.COMMAND_WORD + " 3"));
+    }
+
+    @Test
+    public void parseCommand_rank() throws Exception {
+        assertEquals(new RankCommand(INDEX_FIRST_PERSON),
+                parser.parseCommand(RankCommand.COMMAND_WORD + " " + INDEX_FIRST_PERSON.getOneBased()));
+    }
+
+    @Test
+    public void parseCommand_checkIn() throws Exception {
+        assertEquals(new CheckInCommand(), parser.parseCommand(CheckInCommand.COMMAND_WORD));
+        Person person = new PersonBuilder().build();
+        assertEquals(new CheckInCommand(person.getEmail()),
+                parser.parseCommand(CheckInCommand.COMMAND_WORD + " " + person.getEmail()));
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
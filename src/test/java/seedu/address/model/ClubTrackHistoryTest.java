@@ -0,0 +1,86 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.PersistentPersonList;
+
+public class ClubTrackHistoryTest {
+
+    private static final ClubTrackSnapshot EMPTY = new ClubTrackSnapshot(0, PersistentPersonList.empty());
+    private static final ClubTrackSnapshot WITH_ALICE = new ClubTrackSnapshot(1, EMPTY.getPersons().add(ALICE));
+    private static final ClubTrackSnapshot WITH_BENSON = new ClubTrackSnapshot(2, WITH_ALICE.getPersons().add(BENSON));
+    private static final ClubTrackSnapshot WITH_CARL = new ClubTrackSnapshot(3, WITH_BENSON.getPersons().add(CARL));
+
+    @Test
+    public void undoRedo_movesBetweenCommittedVersions() {
+        ClubTrackHistory history = new ClubTrackHistory(Long.MAX_VALUE, EMPTY);
+        assertFalse(history.canUndo());
+        history.commit(WITH_ALICE, 1, null);
+        history.commit(WITH_BENSON, 1, null);
+
+        assertSame(WITH_ALICE, history.undo());
+        assertSame(EMPTY, history.undo());
+        assertFalse(history.canUndo());
+        assertSame(WITH_ALICE, history.redo());
+        assertSame(WITH_BENSON, history.redo());
+        assertFalse(history.canRedo());
+    }
+
+    @Test
+    public void commit_afterUndo_dropsUndoneVersions() {
+        ClubTrackHistory history = new ClubTrackHistory(Long.MAX_VALUE, EMPTY);
+        history.commit(WITH_ALICE, 1, null);
+        history.undo();
+
+        history.commit(WITH_BENSON, 2, null);
+
+        assertFalse(history.canRedo());
+        assertSame(EMPTY, history.undo());
+        assertThrows(NoSuchElementException.class, history::undo);
+    }
+
+    @Test
+    public void commit_overBudget_dropsOldestVersions() {
+        // Room for all members of WITH_BENSON and the change to reach WITH_CARL, but not for WITH_ALICE as well
+        long maxBytes = ClubTrackHistory.estimateBytes(2, 2) + ClubTrackHistory.estimateBytes(1, 3);
+        ClubTrackHistory history = new ClubTrackHistory(maxBytes, WITH_ALICE);
+        history.commit(WITH_BENSON, 1, null);
+        history.commit(WITH_CARL, 1, null);
+
+        assertSame(WITH_BENSON, history.undo());
+        assertFalse(history.canUndo());
+    }
+
+    @Test
+    public void reset_countsAllMembersOfVersion() {
+        ClubTrackHistory history = new ClubTrackHistory(Long.MAX_VALUE, EMPTY);
+
+        history.reset(WITH_BENSON);
+
+        assertEquals(ClubTrackHistory.estimateBytes(2, 2), history.getTotalBytes());
+    }
+
+    @Test
+    public void commit_zeroBudget_keepsNoEarlierVersions() {
+        ClubTrackHistory history = new ClubTrackHistory(0, EMPTY);
+        history.commit(WITH_ALICE, 1, null);
+        assertFalse(history.canUndo());
+    }
+
+    @Test
+    public void estimateBytes_smallChangeToLargeList_muchLessThanCopy() {
+        long copyBytes = ClubTrackHistory.estimateBytes(100_000, 100_000);
+        assertTrue(ClubTrackHistory.estimateBytes(1, 100_000) * 1000 < copyBytes);
+    }
+}
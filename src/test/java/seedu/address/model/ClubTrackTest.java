@@ -13,10 +13,12 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
@@ -54,6 +56,38 @@ public class ClubTrackTest {
         assertThrows(DuplicatePersonException.class, () -> clubTrack.resetData(newData));
     }
 
+    @Test
+    public void resetData_fromClubTrack_replacesDataInOneChange() {
+        AtomicInteger changes = new AtomicInteger();
+        clubTrack.getPersonList().addListener((ListChangeListener<Person>) change -> changes.incrementAndGet());
+
+        clubTrack.resetData(getTypicalAddressBook());
+
+        assertEquals(getTypicalAddressBook(), clubTrack);
+        assertTrue(clubTrack.hasPerson(ALICE));
+        assertEquals(1, changes.get());
+    }
+
+    @Test
+    public void builder_uniquePersons_buildsInOrder() {
+        ClubTrack.Builder builder = new ClubTrack.Builder();
+        getTypicalAddressBook().getPersonList().forEach(builder::addPerson);
+
+        ClubTrack built = builder.build();
+
+        assertEquals(getTypicalAddressBook(), built);
+        assertTrue(built.hasPerson(ALICE));
+    }
+
+    @Test
+    public void builder_duplicatePerson_throwsDuplicatePersonException() {
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        ClubTrack.Builder builder = new ClubTrack.Builder().addPerson(ALICE);
+
+        assertTrue(builder.hasPerson(editedAlice));
+        assertThrows(DuplicatePersonException.class, () -> builder.addPerson(editedAlice));
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> clubTrack.hasPerson(null));
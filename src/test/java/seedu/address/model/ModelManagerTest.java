@@ -2,21 +2,32 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.predicates.NameContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.RefinablePredicate;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -88,6 +99,230 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void getClubTrackVersion_dataModified_increments() {
+        long version = modelManager.getClubTrackVersion();
+        modelManager.addPerson(ALICE);
+        assertTrue(modelManager.getClubTrackVersion() > version);
+
+        version = modelManager.getClubTrackVersion();
+        modelManager.setPerson(ALICE, BENSON);
+        assertTrue(modelManager.getClubTrackVersion() > version);
+
+        version = modelManager.getClubTrackVersion();
+        modelManager.deletePerson(BENSON);
+        assertTrue(modelManager.getClubTrackVersion() > version);
+
+        version = modelManager.getClubTrackVersion();
+        modelManager.setClubTrack(new ClubTrack());
+        assertTrue(modelManager.getClubTrackVersion() > version);
+    }
+
+    @Test
+    public void getClubTrackSnapshot_dataModified_newSnapshotPublished() {
+        ClubTrackSnapshot initial = modelManager.getClubTrackSnapshot();
+        modelManager.addPerson(ALICE);
+        ClubTrackSnapshot afterAdd = modelManager.getClubTrackSnapshot();
+        modelManager.setPerson(ALICE, BENSON);
+
+        assertEquals(List.of(), initial.getPersonList());
+        assertEquals(List.of(ALICE), afterAdd.getPersonList());
+        assertEquals(List.of(BENSON), modelManager.getClubTrackSnapshot().getPersonList());
+        assertEquals(modelManager.getClubTrackVersion(), modelManager.getClubTrackSnapshot().getVersion());
+        assertTrue(afterAdd.getVersion() > initial.getVersion());
+    }
+
+    @Test
+    public void getClubTrackSnapshot_filterChanged_sameSnapshot() {
+        modelManager.addPerson(ALICE);
+        ClubTrackSnapshot snapshot = modelManager.getClubTrackSnapshot();
+
+        modelManager.updateFilteredPersonList(unused -> false);
+
+        assertSame(snapshot, modelManager.getClubTrackSnapshot());
+    }
+
+    @Test
+    public void undoClubTrack_committedChange_restoresEarlierSnapshotMembers() {
+        modelManager.addPerson(ALICE);
+        modelManager.commitClubTrack();
+        ClubTrackSnapshot beforeDelete = modelManager.getClubTrackSnapshot();
+        modelManager.deletePerson(ALICE);
+        modelManager.commitClubTrack();
+
+        modelManager.undoClubTrack();
+
+        assertTrue(modelManager.hasPerson(ALICE));
+        assertSame(beforeDelete.getPersons(), modelManager.getClubTrackSnapshot().getPersons());
+        assertTrue(modelManager.getClubTrackVersion() > beforeDelete.getVersion());
+        assertTrue(modelManager.canRedoClubTrack());
+    }
+
+    @Test
+    public void undoRedoClubTrack_editedMember_onlyThatMemberReplaced() {
+        ModelManager modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Person editedAlice = new PersonBuilder(ALICE).withPresent(true).build();
+        modelManager.setPerson(ALICE, editedAlice);
+        modelManager.commitClubTrack();
+        AtomicInteger removed = new AtomicInteger();
+        modelManager.getFilteredPersonList().addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                removed.addAndGet(change.getRemovedSize());
+            }
+        });
+
+        modelManager.undoClubTrack();
+        assertEquals(ALICE, modelManager.getFilteredPersonList().get(0));
+        assertEquals(0, modelManager.getPresentCount());
+        modelManager.redoClubTrack();
+        assertEquals(editedAlice, modelManager.getFilteredPersonList().get(0));
+        assertEquals(1, modelManager.getPresentCount());
+
+        assertEquals(2, removed.get());
+    }
+
+    @Test
+    public void commitClubTrack_clearThenEdits_historyStaysWithinBudget() {
+        ClubTrack typicalClubTrack = getTypicalAddressBook();
+        int size = typicalClubTrack.getPersonList().size();
+        // Room for the typical members and for clearing them, but not for the edits after
+        long maxBytes = ClubTrackHistory.estimateBytes(size, size) + ClubTrackHistory.estimateBytes(size, 0);
+        ModelManager modelManager = new ModelManager(typicalClubTrack, new UserPrefs(), maxBytes);
+        modelManager.setClubTrack(new ClubTrack());
+        modelManager.commitClubTrack();
+
+        for (int i = 0; i < 5; i++) {
+            modelManager.addPerson(new PersonBuilder().withName("Member " + i).withPhone("9000000" + i)
+                    .withEmail("member" + i + "@example.com").build());
+            modelManager.commitClubTrack();
+        }
+        while (modelManager.canUndoClubTrack()) {
+            modelManager.undoClubTrack();
+        }
+
+        assertTrue(modelManager.getClubTrack().getPersonList().isEmpty());
+    }
+
+    @Test
+    public void resetClubTrackHistory_nothingToUndo() {
+        modelManager.addPerson(ALICE);
+        modelManager.commitClubTrack();
+
+        modelManager.resetClubTrackHistory();
+
+        assertFalse(modelManager.canUndoClubTrack());
+    }
+
+    @Test
+    public void getClubTrackVersion_filterOrPrefsChanged_unchanged() {
+        modelManager.addPerson(ALICE);
+        long version = modelManager.getClubTrackVersion();
+
+        modelManager.updateFilteredPersonList(unused -> false);
+        modelManager.setGuiSettings(new GuiSettings(1, 2, 3, 4));
+        modelManager.setClubTrackFilePath(Paths.get("address/book/file/path"));
+
+        assertEquals(version, modelManager.getClubTrackVersion());
+    }
+
+    @Test
+    public void setClubTrack_largeList_notifiesFilteredListOnce() {
+        ClubTrack.Builder builder = new ClubTrack.Builder();
+        for (int i = 0; i < 50000; i++) {
+            builder.addPerson(new PersonBuilder().withName("Member " + i).withPhone(String.valueOf(80000000 + i))
+                    .withEmail("member" + i + "@example.com").build());
+        }
+        ClubTrack largeClubTrack = builder.build();
+        AtomicInteger changes = new AtomicInteger();
+        modelManager.getFilteredPersonList().addListener((ListChangeListener<Person>) change ->
+                changes.incrementAndGet());
+
+        modelManager.setClubTrack(largeClubTrack);
+
+        assertEquals(1, changes.get());
+        assertEquals(50000, modelManager.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void updateFilteredPersonList_samePredicateUnchangedData_reusesMatches() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        AtomicInteger tests = new AtomicInteger();
+        Predicate<Person> predicate = person -> {
+            tests.incrementAndGet();
+            return person.equals(ALICE);
+        };
+
+        modelManager.updateFilteredPersonList(predicate);
+        int testsAfterFirstQuery = tests.get();
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        modelManager.updateFilteredPersonList(predicate);
+
+        assertEquals(testsAfterFirstQuery, tests.get());
+        assertEquals(List.of(ALICE), modelManager.getFilteredPersonList());
+
+        // a change invalidates the cached matches
+        modelManager.deletePerson(BENSON);
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        modelManager.updateFilteredPersonList(predicate);
+        assertTrue(tests.get() > testsAfterFirstQuery);
+    }
+
+    @Test
+    public void updateFilteredPersonList_withCandidates_onlyTestsCandidates() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        Predicate<Person> everyone = unused -> true;
+        modelManager.updateFilteredPersonList(everyone, Set.of(BENSON));
+        assertEquals(List.of(BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_personEditedAfterFilter_testedAgainstPredicate() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(List.of("alice"));
+        modelManager.updateFilteredPersonList(predicate, Set.of(ALICE));
+
+        Person editedAlice = new PersonBuilder(ALICE).withAddress("Somewhere else").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        assertEquals(List.of(editedAlice), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_samePredicateAfterChange_notRetested() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        AtomicInteger tests = new AtomicInteger();
+        Predicate<Person> predicate = person -> {
+            tests.incrementAndGet();
+            return true;
+        };
+        modelManager.updateFilteredPersonList(predicate);
+
+        // the filtered list tests the replaced person by itself
+        Person editedBenson = new PersonBuilder(BENSON).withAddress("Somewhere else").build();
+        modelManager.setPerson(BENSON, editedBenson);
+        tests.set(0);
+        modelManager.updateFilteredPersonList(predicate);
+        assertEquals(0, tests.get());
+        assertEquals(List.of(ALICE, editedBenson), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_refinement_onlyTestsCurrentMatches() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(CARL);
+        modelManager.updateFilteredPersonList(new CountingPrefixPredicate("school", new AtomicInteger()));
+        assertEquals(List.of(ALICE, CARL), modelManager.getFilteredPersonList());
+
+        AtomicInteger tests = new AtomicInteger();
+        modelManager.updateFilteredPersonList(new CountingPrefixPredicate("school of c", tests));
+        assertEquals(List.of(ALICE, CARL), modelManager.getFilteredPersonList());
+        assertEquals(2, tests.get());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
@@ -129,5 +364,30 @@ public class ModelManagerTest {
         differentUserPrefs.setAddressBookFilePath(Paths.get("differentFilePath"));
         assertFalse(modelManager.equals(new ModelManager(clubTrack, differentUserPrefs)));
     }
-}
 
+    /**
+     * Accepts persons whose lower-cased faculty starts with a prefix, counting how many persons it tests.
+     * Refines another such predicate whose prefix it extends.
+     */
+    private static class CountingPrefixPredicate implements RefinablePredicate {
+        private final String prefix;
+        private final AtomicInteger tests;
+
+        CountingPrefixPredicate(String prefix, AtomicInteger tests) {
+            this.prefix = prefix;
+            this.tests = tests;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            tests.incrementAndGet();
+            return person.getFaculty().toLowerCase().startsWith(prefix);
+        }
+
+        @Override
+        public boolean isRefinementOf(Predicate<Person> other) {
+            return other instanceof CountingPrefixPredicate
+                    && prefix.startsWith(((CountingPrefixPredicate) other).prefix);
+        }
+    }
+}
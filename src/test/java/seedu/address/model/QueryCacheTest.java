@@ -0,0 +1,55 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.predicates.NameContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.TagsPredicate;
+
+public class QueryCacheTest {
+
+    private final QueryCache cache = new QueryCache(2);
+
+    @Test
+    public void get_equalPredicateSameVersion_returnsMatches() {
+        cache.put(new NameContainsKeywordsPredicate(List.of("alice")), 1, Set.of(ALICE));
+        assertEquals(Optional.of(Set.of(ALICE)), cache.get(new NameContainsKeywordsPredicate(List.of("alice")), 1));
+    }
+
+    @Test
+    public void get_otherVersion_dropsAllEntries() {
+        cache.put(new NameContainsKeywordsPredicate(List.of("alice")), 1, Set.of(ALICE));
+        assertFalse(cache.get(new NameContainsKeywordsPredicate(List.of("alice")), 2).isPresent());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void put_overCapacity_evictsLeastRecentlyUsed() {
+        NameContainsKeywordsPredicate alice = new NameContainsKeywordsPredicate(List.of("alice"));
+        NameContainsKeywordsPredicate benson = new NameContainsKeywordsPredicate(List.of("benson"));
+        TagsPredicate friends = new TagsPredicate(List.of("friends"), false);
+        cache.put(alice, 1, Set.of(ALICE));
+        cache.put(benson, 1, Set.of(BENSON));
+        cache.get(alice, 1);
+        cache.put(friends, 1, Set.of(ALICE, BENSON));
+
+        assertEquals(2, cache.size());
+        assertFalse(cache.get(benson, 1).isPresent());
+        assertEquals(Optional.of(Set.of(ALICE)), cache.get(alice, 1));
+    }
+
+    @Test
+    public void put_zeroCapacity_cachesNothing() {
+        QueryCache disabled = new QueryCache(0);
+        disabled.put(new NameContainsKeywordsPredicate(List.of("alice")), 1, Set.of(ALICE));
+        assertEquals(0, disabled.size());
+    }
+}
@@ -1,8 +1,10 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.StringEnumerator.forEachString;
 
 import org.junit.jupiter.api.Test;
 
@@ -53,4 +55,11 @@ public class AddressTest {
         // different values -> returns false
         assertFalse(address.equals(new Address("Other Valid Address")));
     }
+
+    @Test
+    public void isValidAddress_allShortStrings_equivalentToRegex() {
+        // Includes every line terminator, which '.' does not match, and half of a surrogate pair
+        forEachString("a \t\n\r\u0085\u2028\u2029\ud83d", 5, address ->
+                assertEquals(address.matches(Address.VALIDATION_REGEX), Address.isValidAddress(address), address));
+    }
 }
@@ -0,0 +1,75 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class AttendanceIndexTest {
+
+    private static final Person PRESENT = member(1, true);
+    private static final Person ABSENT = member(2, false);
+    private static final Person UNMARKED = member(3, null);
+
+    private final AttendanceIndex index = new AttendanceIndex();
+
+    @BeforeEach
+    public void setUp() {
+        List.of(PRESENT, ABSENT, UNMARKED).forEach(index::add);
+    }
+
+    @Test
+    public void counts_eachStatusCounted() {
+        assertEquals(1, index.getPresentCount());
+        assertEquals(1, index.getAbsentCount());
+        assertEquals(1, index.getUnmarkedCount());
+        assertEquals(Set.of(PRESENT), Set.copyOf(index.present()));
+    }
+
+    @Test
+    public void remove_markedPerson_countsUpdated() {
+        Person nowPresent = new PersonBuilder(UNMARKED).withPresent(true).build();
+        index.remove(UNMARKED);
+        index.add(nowPresent);
+        index.remove(ABSENT);
+
+        assertEquals(2, index.getPresentCount());
+        assertEquals(0, index.getAbsentCount());
+        assertEquals(0, index.getUnmarkedCount());
+        assertEquals(Set.of(PRESENT, nowPresent), Set.copyOf(index.present()));
+    }
+
+    @Test
+    public void remove_personNotAdded_noChange() {
+        index.remove(member(4, true));
+        assertEquals(1, index.getPresentCount());
+    }
+
+    @Test
+    public void remove_mostPersons_remainingPersonsStillCounted() {
+        List<Person> members = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            Person member = member(100 + i, i % 2 == 0 ? Boolean.TRUE : null);
+            members.add(member);
+            index.add(member);
+        }
+        // removing more persons than remain rebuilds the bitmaps
+        members.subList(0, 1500).forEach(index::remove);
+
+        assertEquals(251, index.getPresentCount());
+        assertEquals(1, index.getAbsentCount());
+        assertEquals(251, index.getUnmarkedCount());
+        assertEquals(251, index.present().size());
+    }
+
+    private static Person member(int id, Boolean isPresent) {
+        return new PersonBuilder().withEmail("member" + id + "@example.com")
+                .withPhone(String.valueOf(80000000 + id)).withPresent(isPresent).build();
+    }
+}
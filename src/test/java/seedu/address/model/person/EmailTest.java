@@ -1,8 +1,10 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.StringEnumerator.forEachString;
 
 import org.junit.jupiter.api.Test;
 
@@ -85,4 +87,16 @@ public class EmailTest {
         // different values -> returns false
         assertFalse(email.equals(new Email("other.valid@email")));
     }
+
+    @Test
+    public void isValidEmail_allShortStrings_equivalentToRegex() {
+        forEachString("a-._@\u00e9", 7, email ->
+                assertEquals(email.matches(Email.VALIDATION_REGEX), Email.isValidEmail(email), email));
+    }
+
+    @Test
+    public void isValidEmail_longInvalidDomain_returnsPromptly() {
+        // The regex backtracks exponentially on this input
+        assertFalse(Email.isValidEmail("a@" + "a".repeat(5000) + "!"));
+    }
 }
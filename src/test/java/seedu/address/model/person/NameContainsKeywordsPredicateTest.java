@@ -85,5 +85,21 @@ public class NameContainsKeywordsPredicateTest {
         String expected = NameContainsKeywordsPredicate.class.getCanonicalName() + "{keywords=" + keywords + "}";
         assertEquals(expected, predicate.toString());
     }
-}
 
+    @Test
+    public void isRefinementOf() {
+        NameContainsKeywordsPredicate broad = new NameContainsKeywordsPredicate(List.of("ali", "bob"));
+
+        // every keyword contains a keyword of the other predicate -> returns true
+        assertTrue(new NameContainsKeywordsPredicate(List.of("alice")).isRefinementOf(broad));
+        assertTrue(new NameContainsKeywordsPredicate(List.of("Alice", "bobby")).isRefinementOf(broad));
+
+        // some keyword contains none of the other predicate's keywords -> returns false
+        assertFalse(new NameContainsKeywordsPredicate(List.of("alice", "carl")).isRefinementOf(broad));
+        assertFalse(broad.isRefinementOf(new NameContainsKeywordsPredicate(List.of("alice"))));
+
+        // year keywords also match on year of study -> returns false
+        assertFalse(new NameContainsKeywordsPredicate(List.of("y2")).isRefinementOf(
+                new NameContainsKeywordsPredicate(List.of("y"))));
+    }
+}
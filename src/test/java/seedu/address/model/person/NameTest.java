@@ -1,8 +1,10 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.StringEnumerator.forEachString;
 
 import org.junit.jupiter.api.Test;
 
@@ -57,4 +59,10 @@ public class NameTest {
         // different values -> returns false
         assertFalse(name.equals(new Name("Other Valid Name")));
     }
+
+    @Test
+    public void isValidName_allShortStrings_equivalentToRegex() {
+        forEachString("aZ0/ _\u00e9\t", 6, name ->
+                assertEquals(name.matches(Name.VALIDATION_REGEX), Name.isValidName(name), name));
+    }
 }
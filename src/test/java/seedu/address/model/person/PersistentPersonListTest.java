@@ -0,0 +1,102 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersistentPersonListTest {
+
+    @Test
+    public void empty_hasNoPersons() {
+        PersistentPersonList list = PersistentPersonList.empty();
+        assertTrue(list.isEmpty());
+        assertEquals(List.of(), list.asList());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(0));
+    }
+
+    @Test
+    public void of_keepsOrder() {
+        List<Person> persons = getTypicalPersons();
+        PersistentPersonList list = PersistentPersonList.of(persons);
+
+        assertEquals(persons.size(), list.size());
+        assertEquals(persons, list.asList());
+        for (int i = 0; i < persons.size(); i++) {
+            assertEquals(persons.get(i), list.get(i));
+        }
+    }
+
+    @Test
+    public void changes_leaveOriginalUnchanged() {
+        PersistentPersonList original = PersistentPersonList.of(List.of(ALICE, BENSON));
+
+        PersistentPersonList added = original.add(CARL);
+        PersistentPersonList replaced = original.set(0, CARL);
+        PersistentPersonList removed = original.remove(0);
+
+        assertEquals(List.of(ALICE, BENSON), original.asList());
+        assertEquals(List.of(ALICE, BENSON, CARL), added.asList());
+        assertEquals(List.of(CARL, BENSON), replaced.asList());
+        assertEquals(List.of(BENSON), removed.asList());
+    }
+
+    @Test
+    public void set_invalidIndex_throwsIndexOutOfBoundsException() {
+        PersistentPersonList list = PersistentPersonList.of(List.of(ALICE));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.set(1, BENSON));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.remove(-1));
+    }
+
+    @Test
+    public void randomChanges_sameAsArrayList() {
+        Random random = new Random(42);
+        List<Person> expected = new ArrayList<>();
+        PersistentPersonList list = PersistentPersonList.empty();
+        List<List<Person>> expectedVersions = new ArrayList<>();
+        List<PersistentPersonList> versions = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            int operation = random.nextInt(4);
+            if (expected.isEmpty() || operation < 2) {
+                Person member = member(i);
+                expected.add(member);
+                list = list.add(member);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                Person member = member(i);
+                expected.set(index, member);
+                list = list.set(index, member);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                list = list.remove(index);
+            }
+            if (i % 100 == 0) {
+                expectedVersions.add(new ArrayList<>(expected));
+                versions.add(list);
+            }
+        }
+
+        assertEquals(expected, list.asList());
+        for (int i = 0; i < versions.size(); i++) {
+            assertEquals(expectedVersions.get(i), versions.get(i).asList());
+        }
+        assertEquals(expected, PersistentPersonList.of(expected).asList());
+    }
+
+    private static Person member(int id) {
+        return new PersonBuilder().withEmail("member" + id + "@example.com")
+                .withPhone(String.valueOf(80000000 + id)).build();
+    }
+}
@@ -0,0 +1,110 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonSearchIndexTest {
+
+    private final PersonSearchIndex index = new PersonSearchIndex();
+
+    @BeforeEach
+    public void setUp() {
+        index.add(ALICE);
+        index.add(BENSON);
+        index.add(CARL);
+    }
+
+    @Test
+    public void candidates_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.candidates(null));
+    }
+
+    @Test
+    public void candidates_substringOfField_returnsMatchingPersons() {
+        // name, case-insensitive
+        assertEquals(Set.of(ALICE), candidates("PAULINE"));
+        // address
+        assertEquals(Set.of(CARL), candidates("wall"));
+        // faculty shared by two persons
+        assertEquals(Set.of(ALICE, CARL), candidates("computing"));
+        // email
+        assertEquals(Set.of(BENSON), candidates("johnd@"));
+    }
+
+    @Test
+    public void candidates_multipleKeywords_returnsUnion() {
+        assertEquals(Set.of(ALICE, BENSON), candidates("alice", "benson"));
+    }
+
+    @Test
+    public void candidates_noMatch_returnsEmptySet() {
+        assertEquals(Collections.emptySet(), candidates("zzz"));
+        // trigrams spread across different fields do not form a match
+        assertEquals(Collections.emptySet(), candidates("paulinealice"));
+    }
+
+    @Test
+    public void candidates_blankKeywordsOnly_returnsEmptySet() {
+        assertEquals(Collections.emptySet(), candidates(" ", ""));
+    }
+
+    @Test
+    public void candidates_shortOrYearKeyword_returnsEmptyOptional() {
+        assertFalse(index.candidates(List.of("al")).isPresent());
+        assertFalse(index.candidates(List.of("alice", "Y2")).isPresent());
+        assertFalse(index.candidates(List.of("y123")).isPresent());
+    }
+
+    @Test
+    public void remove_person_noLongerCandidate() {
+        index.remove(ALICE);
+        assertEquals(Collections.emptySet(), candidates("pauline"));
+        assertEquals(Set.of(CARL), candidates("computing"));
+    }
+
+    @Test
+    public void remove_mostPersons_remainingPersonsStillFound() {
+        List<Person> members = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            Person member = new PersonBuilder().withName("Member " + i).withEmail("member" + i + "@example.com")
+                    .withPhone(String.valueOf(80000000 + i)).build();
+            members.add(member);
+            index.add(member);
+        }
+        // removing more persons than remain rebuilds the posting lists
+        members.subList(0, 1500).forEach(index::remove);
+        index.remove(CARL);
+
+        assertEquals(Collections.emptySet(), candidates("member42@"));
+        assertEquals(Set.of(members.get(1999)), candidates("member1999"));
+        assertEquals(500, candidates("member").size());
+        assertEquals(Set.of(ALICE), candidates("pauline"));
+    }
+
+    @Test
+    public void candidates_returnedSetComparesByIdentity() {
+        Set<Person> result = index.candidates(List.of("alice")).get();
+        assertTrue(result.contains(ALICE));
+        assertFalse(result.contains(new PersonBuilder(ALICE).build()));
+    }
+
+    private Set<Person> candidates(String... keywords) {
+        return Set.copyOf(index.candidates(Arrays.asList(keywords)).get());
+    }
+}
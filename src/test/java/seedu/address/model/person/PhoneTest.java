@@ -1,8 +1,10 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.StringEnumerator.forEachString;
 
 import org.junit.jupiter.api.Test;
 
@@ -61,4 +63,21 @@ public class PhoneTest {
         // different values -> returns false
         assertFalse(phone.equals(new Phone("99999999")));
     }
+
+    @Test
+    public void isValidPhone_allShortStrings_equivalentToRegex() {
+        // Long enough for valid numbers with separators, and characters removed only by trimming
+        forEachString("80-\u0001", 10, PhoneTest::assertEquivalentToRegex);
+        forEachString("80 -", 9, PhoneTest::assertEquivalentToRegex);
+        forEachString("890a- \t\n\u0001\u00a0", 5, PhoneTest::assertEquivalentToRegex);
+    }
+
+    private static void assertEquivalentToRegex(String phone) {
+        String normalized = phone.trim().replaceAll("[\\s-]", "");
+        boolean isValid = normalized.matches(Phone.VALIDATION_REGEX);
+        assertEquals(isValid, Phone.isValidPhone(phone), phone);
+        if (isValid) {
+            assertEquals(normalized, new Phone(phone).value, phone);
+        }
+    }
 }
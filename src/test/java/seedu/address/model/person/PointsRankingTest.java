@@ -0,0 +1,93 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PointsRankingTest {
+
+    private static final Person LEADER = member(1, 50);
+    private static final Person RUNNER_UP = member(2, 30);
+    private static final Person TIED_RUNNER_UP = member(3, 30);
+    private static final Person NEWCOMER = member(4, 0);
+
+    private final PointsRanking ranking = new PointsRanking();
+
+    @BeforeEach
+    public void setUp() {
+        List.of(NEWCOMER, RUNNER_UP, LEADER, TIED_RUNNER_UP).forEach(ranking::add);
+    }
+
+    @Test
+    public void top_orderedByPointsThenAddition() {
+        assertEquals(List.of(LEADER, RUNNER_UP, TIED_RUNNER_UP, NEWCOMER), ranking.top(10));
+        assertEquals(List.of(LEADER, RUNNER_UP), ranking.top(2));
+        assertEquals(List.of(), ranking.top(0));
+    }
+
+    @Test
+    public void rankOf_equalPoints_shareRank() {
+        assertEquals(1, ranking.rankOf(LEADER));
+        assertEquals(2, ranking.rankOf(RUNNER_UP));
+        assertEquals(2, ranking.rankOf(TIED_RUNNER_UP));
+        assertEquals(4, ranking.rankOf(NEWCOMER));
+    }
+
+    @Test
+    public void rankOf_personNotAdded_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> ranking.rankOf(member(5, 10)));
+    }
+
+    @Test
+    public void remove_replacedByUpdatedPoints_reranked() {
+        Person promoted = new PersonBuilder(NEWCOMER).withPoints(40).build();
+        ranking.remove(NEWCOMER);
+        ranking.add(promoted);
+
+        assertEquals(4, ranking.size());
+        assertEquals(2, ranking.rankOf(promoted));
+        assertEquals(3, ranking.rankOf(RUNNER_UP));
+        assertEquals(List.of(LEADER, promoted, RUNNER_UP, TIED_RUNNER_UP), ranking.top(4));
+    }
+
+    @Test
+    public void randomUpdates_sameAsSorting() {
+        Random random = new Random(42);
+        List<Person> members = new ArrayList<>(List.of(NEWCOMER, RUNNER_UP, LEADER, TIED_RUNNER_UP));
+        for (int i = 0; i < 2000; i++) {
+            if (members.isEmpty() || random.nextInt(3) > 0) {
+                Person member = member(100 + i, random.nextInt(20));
+                members.add(member);
+                ranking.add(member);
+            } else {
+                ranking.remove(members.remove(random.nextInt(members.size())));
+            }
+        }
+
+        List<Person> sorted = new ArrayList<>(members);
+        sorted.sort(Comparator.comparingInt((Person p) -> p.getPoints().getValue()).reversed());
+        assertEquals(sorted.size(), ranking.size());
+        for (int i = 0; i < sorted.size(); i++) {
+            assertEquals(sorted.get(i).getPoints(), ranking.top(sorted.size()).get(i).getPoints());
+        }
+        for (Person member : members) {
+            long morePoints = members.stream()
+                    .filter(other -> other.getPoints().getValue() > member.getPoints().getValue()).count();
+            assertEquals(morePoints + 1, ranking.rankOf(member));
+        }
+    }
+
+    private static Person member(int id, int points) {
+        return new PersonBuilder().withEmail("member" + id + "@example.com")
+                .withPhone(String.valueOf(80000000 + id)).withPoints(points).build();
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class SearchKeysTest {
+
+    private final Person person = new PersonBuilder().withName("Alice  Pauline Tan").withPhone("94351253")
+            .withEmail("Alice@Example.com").withAddress("Jurong West").withFaculty("School of Computing")
+            .withYearOfStudy(2).withTags("Treasurer", "dance").build();
+
+    @Test
+    public void getSearchKeys_computedOnce() {
+        assertSame(person.getSearchKeys(), person.getSearchKeys());
+    }
+
+    @Test
+    public void getFields_lowerCasedInOrder() {
+        assertEquals(List.of("alice  pauline tan", "94351253", "alice@example.com", "jurong west",
+                "school of computing", "2"), person.getSearchKeys().getFields());
+    }
+
+    @Test
+    public void getNameWords_splitOnWhitespace() {
+        assertEquals(List.of("alice", "pauline", "tan"), person.getSearchKeys().getNameWords());
+    }
+
+    @Test
+    public void anyFieldContains() {
+        SearchKeys keys = person.getSearchKeys();
+        assertTrue(keys.anyFieldContains("example"));
+        assertTrue(keys.anyFieldContains("comp"));
+        // does not match across fields
+        assertFalse(keys.anyFieldContains("tan94351253"));
+    }
+
+    @Test
+    public void hasNameWordStartingWith() {
+        SearchKeys keys = person.getSearchKeys();
+        assertTrue(keys.hasNameWordStartingWith("pau"));
+        assertFalse(keys.hasNameWordStartingWith("line"));
+        assertFalse(keys.hasNameWordStartingWith("alice pauline"));
+    }
+
+    @Test
+    public void hasTagStartingWith() {
+        SearchKeys keys = person.getSearchKeys();
+        assertTrue(keys.hasTagStartingWith("treas"));
+        assertTrue(keys.hasTagStartingWith("dance"));
+        assertFalse(keys.hasTagStartingWith("logistics"));
+    }
+}
@@ -0,0 +1,99 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.predicates.TagsPredicate;
+import seedu.address.testutil.PersonBuilder;
+
+public class TagIndexTest {
+
+    private static final Person TREASURER = new PersonBuilder().withEmail("t@example.com").withPhone("91111111")
+            .withTags("Treasurer", "dance").build();
+    private static final Person DANCER = new PersonBuilder().withEmail("d@example.com").withPhone("92222222")
+            .withTags("dance").build();
+    private static final Person LOGISTICS = new PersonBuilder().withEmail("l@example.com").withPhone("93333333")
+            .withTags("logistics", "tech").build();
+    private static final Person UNTAGGED = new PersonBuilder().withEmail("u@example.com").withPhone("94444444")
+            .withTags().build();
+    private static final List<Person> PERSONS = List.of(TREASURER, DANCER, LOGISTICS, UNTAGGED);
+
+    private final TagIndex index = new TagIndex();
+
+    @BeforeEach
+    public void setUp() {
+        PERSONS.forEach(index::add);
+    }
+
+    @Test
+    public void matches_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.matches(null, false));
+    }
+
+    @Test
+    public void matches_noPrefixes_returnsEmptyOptional() {
+        assertFalse(index.matches(Collections.emptyList(), false).isPresent());
+    }
+
+    @Test
+    public void matches_andSemantics_allPrefixesMustMatch() {
+        assertEquals(Set.of(TREASURER, DANCER), matches(false, "dan"));
+        assertEquals(Set.of(TREASURER), matches(false, "dan", "TREAS"));
+        assertEquals(Collections.emptySet(), matches(false, "dan", "tech"));
+    }
+
+    @Test
+    public void matches_orSemantics_anyPrefixMatches() {
+        assertEquals(Set.of(TREASURER, DANCER, LOGISTICS), matches(true, "dan", "te"));
+        assertEquals(Collections.emptySet(), matches(true, "zzz"));
+    }
+
+    @Test
+    public void remove_person_noLongerMatches() {
+        index.remove(DANCER);
+        assertEquals(Set.of(TREASURER), matches(false, "dance"));
+    }
+
+    @Test
+    public void remove_mostPersons_remainingPersonsStillMatch() {
+        List<Person> members = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            Person member = new PersonBuilder().withEmail("member" + i + "@example.com")
+                    .withPhone(String.valueOf(80000000 + i)).withTags("member", "group" + i % 2).build();
+            members.add(member);
+            index.add(member);
+        }
+        // removing more persons than remain rebuilds the bitmaps
+        members.subList(0, 1500).forEach(index::remove);
+
+        assertEquals(500, matches(false, "member").size());
+        assertEquals(250, matches(false, "mem", "group1").size());
+        assertEquals(Set.of(TREASURER, DANCER), matches(false, "dance"));
+    }
+
+    @Test
+    public void matches_sameAsTagsPredicate() {
+        for (List<String> prefixes : List.of(List.of("d"), List.of("t"), List.of("t", "d"), List.of("l", "te"),
+                List.of(""), List.of("x", "dance"))) {
+            for (boolean any : List.of(false, true)) {
+                TagsPredicate predicate = new TagsPredicate(prefixes, any);
+                Set<Person> expected = PERSONS.stream().filter(predicate).collect(Collectors.toSet());
+                assertEquals(expected, Set.copyOf(index.matches(prefixes, any).get()));
+            }
+        }
+    }
+
+    private Set<Person> matches(boolean any, String... prefixes) {
+        return Set.copyOf(index.matches(List.of(prefixes), any).get());
+    }
+}
@@ -2,19 +2,27 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
@@ -109,6 +117,23 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, BOB));
     }
 
+    @Test
+    public void setPerson_editedPersonSharesPhoneWithOtherPerson_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Person editedAlice = new PersonBuilder(ALICE).withPhone(VALID_PHONE_BOB).build();
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, editedAlice));
+    }
+
+    @Test
+    public void setPerson_editedPersonChangesIdentity_releasesOldIdentity() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withEmail(VALID_EMAIL_BOB).withPhone(VALID_PHONE_BOB).build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void remove_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.remove(null));
@@ -125,6 +150,7 @@ public class UniquePersonListTest {
         uniquePersonList.remove(ALICE);
         UniquePersonList expectedUniquePersonList = new UniquePersonList();
         assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
     }
 
     @Test
@@ -162,6 +188,192 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithSharedPhone_throwsDuplicatePersonException() {
+        Person bobWithAlicePhone = new PersonBuilder(BOB).withPhone(ALICE.getPhone().value).build();
+        List<Person> listWithSharedPhone = Arrays.asList(ALICE, bobWithAlicePhone);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithSharedPhone));
+    }
+
+    @Test
+    public void setPersons_builder_replacesContentsAndIndexes() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPersons(new UniquePersonList.Builder().add(BOB));
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(BOB);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void builderAdd_sharedPhone_throwsDuplicatePersonException() {
+        Person bobWithAlicePhone = new PersonBuilder(BOB).withPhone(ALICE.getPhone().value).build();
+        UniquePersonList.Builder builder = new UniquePersonList.Builder().add(ALICE);
+        assertTrue(builder.contains(bobWithAlicePhone));
+        assertThrows(DuplicatePersonException.class, () -> builder.add(bobWithAlicePhone));
+    }
+
+    @Test
+    public void setPersons_list_reindexesIdentities() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void searchCandidates_afterMutations_reflectsCurrentPersons() {
+        uniquePersonList.add(ALICE);
+        assertEquals(Set.of(ALICE), searchCandidates("pauline"));
+
+        // mutations after the index is built are applied to it
+        uniquePersonList.add(BOB);
+        assertEquals(Set.of(BOB), searchCandidates("bob"));
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice Tan").build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertEquals(Set.of(), searchCandidates("pauline"));
+        assertEquals(Set.of(editedAlice), searchCandidates("tan"));
+        uniquePersonList.remove(new PersonBuilder(editedAlice).build());
+        assertEquals(Set.of(), searchCandidates("alice"));
+
+        // replacing the contents discards the index
+        uniquePersonList.setPersons(Collections.singletonList(ALICE));
+        assertEquals(Set.of(ALICE), searchCandidates("alice"));
+        assertEquals(Set.of(), searchCandidates("bob"));
+    }
+
+    @Test
+    public void attendanceCounts_afterMutations_reflectsCurrentPersons() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        assertEquals(0, uniquePersonList.getPresentCount());
+        assertEquals(2, uniquePersonList.getUnmarkedCount());
+
+        Person presentAlice = new PersonBuilder(ALICE).withPresent(true).build();
+        uniquePersonList.setPerson(ALICE, presentAlice);
+        uniquePersonList.setPerson(BOB, new PersonBuilder(BOB).withPresent(false).build());
+        assertEquals(1, uniquePersonList.getPresentCount());
+        assertEquals(1, uniquePersonList.getAbsentCount());
+        assertEquals(0, uniquePersonList.getUnmarkedCount());
+        assertEquals(Set.of(presentAlice), Set.copyOf(uniquePersonList.presentPersons()));
+
+        uniquePersonList.remove(presentAlice);
+        assertEquals(0, uniquePersonList.getPresentCount());
+
+        uniquePersonList.setPersons(new UniquePersonList.Builder().add(presentAlice));
+        assertEquals(1, uniquePersonList.getPresentCount());
+        assertEquals(0, uniquePersonList.getAbsentCount());
+    }
+
+    @Test
+    public void randomEditsAndRemovals_sameAsArrayList() {
+        Random random = new Random(42);
+        List<Person> expected = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            int operation = random.nextInt(3);
+            if (expected.isEmpty() || operation == 0) {
+                Person member = member(i);
+                expected.add(member);
+                uniquePersonList.add(member);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size());
+                Person edited = new PersonBuilder(expected.get(index)).withAddress("Address " + i).build();
+                uniquePersonList.setPerson(expected.get(index), edited);
+                expected.set(index, edited);
+            } else {
+                uniquePersonList.remove(expected.remove(random.nextInt(expected.size())));
+            }
+        }
+
+        assertEquals(expected, uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(expected, uniquePersonList.asPersistentList().asList());
+    }
+
+    @Test
+    public void restore_undoAndRedoEdits_onlyEditedPersonsReplaced() {
+        for (int i = 0; i < 50; i++) {
+            uniquePersonList.add(member(i));
+        }
+        uniquePersonList.takeEdits();
+        PersistentPersonList before = uniquePersonList.asPersistentList();
+        uniquePersonList.setPerson(member(10), new PersonBuilder(member(10)).withPresent(true).build());
+        uniquePersonList.remove(member(20));
+        uniquePersonList.add(member(50));
+        PersonListEdits edits = uniquePersonList.takeEdits();
+        PersistentPersonList after = uniquePersonList.asPersistentList();
+        AtomicInteger removed = new AtomicInteger();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                removed.addAndGet(change.getRemovedSize());
+            }
+        });
+
+        uniquePersonList.restore(before, edits);
+        assertSame(before, uniquePersonList.asPersistentList());
+        assertEquals(before.asList(), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(2, removed.get());
+        assertEquals(0, uniquePersonList.getPresentCount());
+        assertTrue(uniquePersonList.contains(member(20)));
+        assertFalse(uniquePersonList.contains(member(50)));
+
+        uniquePersonList.restore(after, edits);
+        assertSame(after, uniquePersonList.asPersistentList());
+        assertEquals(after.asList(), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(1, uniquePersonList.getPresentCount());
+        assertFalse(uniquePersonList.contains(member(20)));
+    }
+
+    @Test
+    public void restore_randomEdits_sameAsBothEnds() {
+        Random random = new Random(7);
+        for (int i = 0; i < 100; i++) {
+            uniquePersonList.add(member(i));
+        }
+        uniquePersonList.takeEdits();
+        PersistentPersonList before = uniquePersonList.asPersistentList();
+        List<Person> expected = new ArrayList<>(before.asList());
+        for (int i = 100; i < 160; i++) {
+            int index = random.nextInt(expected.size());
+            if (random.nextBoolean()) {
+                uniquePersonList.remove(expected.remove(index));
+            } else {
+                Person edited = new PersonBuilder(expected.get(index)).withAddress("Address " + i).build();
+                uniquePersonList.setPerson(expected.get(index), edited);
+                expected.set(index, edited);
+            }
+            uniquePersonList.add(member(i));
+            expected.add(member(i));
+        }
+        PersonListEdits edits = uniquePersonList.takeEdits();
+        PersistentPersonList after = uniquePersonList.asPersistentList();
+
+        uniquePersonList.restore(before, edits);
+        assertEquals(before.asList(), uniquePersonList.asUnmodifiableObservableList());
+        uniquePersonList.restore(after, edits);
+        assertEquals(expected, uniquePersonList.asUnmodifiableObservableList());
+
+        // positions are still right, so later changes find their persons
+        uniquePersonList.remove(expected.remove(30));
+        assertEquals(expected, uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(expected, uniquePersonList.asPersistentList().asList());
+    }
+
+    @Test
+    public void restore_editsNotFromCurrentContents_replacesAllPersons() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.takeEdits();
+        PersistentPersonList before = uniquePersonList.asPersistentList();
+        uniquePersonList.add(BOB);
+        PersonListEdits edits = uniquePersonList.takeEdits();
+        uniquePersonList.remove(ALICE);
+
+        uniquePersonList.restore(before, edits);
+
+        assertEquals(List.of(ALICE), uniquePersonList.asUnmodifiableObservableList());
+        assertFalse(uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> uniquePersonList
@@ -172,5 +384,13 @@ public class UniquePersonListTest {
     public void toStringMethod() {
         assertEquals(uniquePersonList.asUnmodifiableObservableList().toString(), uniquePersonList.toString());
     }
-}
 
+    private Set<Person> searchCandidates(String keyword) {
+        return Set.copyOf(uniquePersonList.searchCandidates(List.of(keyword)).get());
+    }
+
+    private static Person member(int id) {
+        return new PersonBuilder().withEmail("member" + id + "@example.com")
+                .withPhone(String.valueOf(80000000 + id)).build();
+    }
+}
@@ -51,4 +51,15 @@ public class NamePrefixPredicateTest {
         assertFalse(a.equals(c));
         assertEquals(a.hashCode(), b.hashCode());
     }
+
+    @Test
+    public void isRefinementOf_longerOrMoreTokens_returnsTrue() {
+        NamePrefixPredicate broad = new NamePrefixPredicate("al");
+        assertTrue(new NamePrefixPredicate("alice").isRefinementOf(broad));
+        assertTrue(new NamePrefixPredicate("bob al").isRefinementOf(broad));
+        assertTrue(broad.isRefinementOf(new NamePrefixPredicate("")));
+        assertFalse(broad.isRefinementOf(new NamePrefixPredicate("alice")));
+        assertFalse(new NamePrefixPredicate("").isRefinementOf(broad));
+        assertFalse(broad.isRefinementOf(new TagsPredicate(List.of("al"), false)));
+    }
 }
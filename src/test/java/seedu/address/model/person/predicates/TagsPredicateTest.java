@@ -50,4 +50,15 @@ public class TagsPredicateTest {
         assertFalse(a.equals(c));
         assertEquals(a.hashCode(), b.hashCode());
     }
+
+    @Test
+    public void isRefinementOf_longerAndPrefixes_onlyInAndMode() {
+        TagsPredicate broad = new TagsPredicate(List.of("tre"), false);
+        assertTrue(new TagsPredicate(List.of("treasurer"), false).isRefinementOf(broad));
+        assertTrue(new TagsPredicate(List.of("treasurer", "dance"), false).isRefinementOf(broad));
+        assertFalse(broad.isRefinementOf(new TagsPredicate(List.of("treasurer"), false)));
+        assertFalse(new TagsPredicate(List.of("treasurer", "dance"), true).isRefinementOf(broad));
+        assertFalse(new TagsPredicate(List.of("treasurer"), false)
+                .isRefinementOf(new TagsPredicate(List.of("tre"), true)));
+    }
 }
@@ -1,6 +1,8 @@
 package seedu.address.model.tag;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.StringEnumerator.forEachString;
 
 import org.junit.jupiter.api.Test;
 
@@ -25,4 +27,9 @@ public class TagTest {
         assertThrows(NullPointerException.class, () -> Tag.isValidTagName(null));
     }
 
+    @Test
+    public void isValidTagName_allShortStrings_equivalentToRegex() {
+        forEachString("aZ0 _-\u00e9", 6, tagName ->
+                assertEquals(tagName.matches(Tag.VALIDATION_REGEX), Tag.isValidTagName(tagName), tagName));
+    }
 }
@@ -0,0 +1,140 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.ClubTrack;
+import seedu.address.model.ReadOnlyClubTrack;
+
+public class AsyncClubTrackSaverTest {
+
+    private static final long TIMEOUT_MILLIS = 5000;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void submit_burstWhileWriting_coalescesIntoLatestSnapshot() throws Exception {
+        CountDownLatch firstSaveStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstSave = new CountDownLatch(1);
+        List<ReadOnlyClubTrack> saved = new ArrayList<>();
+        JsonClubTrackStorage storage = new JsonClubTrackStorage(testFolder.resolve("ab.json")) {
+            @Override
+            public void saveClubTrack(ReadOnlyClubTrack addressBook, Path filePath) throws IOException {
+                synchronized (saved) {
+                    saved.add(addressBook);
+                }
+                firstSaveStarted.countDown();
+                try {
+                    releaseFirstSave.await();
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+            }
+        };
+        AsyncClubTrackSaver saver = new AsyncClubTrackSaver(storage);
+        Path filePath = testFolder.resolve("ab.json");
+
+        saver.submit(new ClubTrack(), filePath);
+        firstSaveStarted.await();
+        saver.submit(withPersons(), filePath);
+        saver.submit(withPersons(), filePath);
+        ClubTrack latest = withPersons();
+        latest.removePerson(BENSON);
+        saver.submit(latest, filePath);
+        releaseFirstSave.countDown();
+        saver.shutdown(TIMEOUT_MILLIS);
+
+        assertEquals(2, saved.size());
+        assertEquals(latest, saved.get(1));
+    }
+
+    @Test
+    public void flush_savesToDisk() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JsonClubTrackStorage storage = new JsonClubTrackStorage(filePath);
+        AsyncClubTrackSaver saver = new AsyncClubTrackSaver(storage);
+        ClubTrack clubTrack = withPersons();
+
+        saver.submit(clubTrack, filePath);
+        saver.flush(TIMEOUT_MILLIS);
+
+        assertEquals(clubTrack, storage.readClubTrack(filePath).get());
+    }
+
+    @Test
+    public void submitLater_snapshotTakenWhenDelayRunsOut() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JsonClubTrackStorage storage = new JsonClubTrackStorage(filePath);
+        AsyncClubTrackSaver saver = new AsyncClubTrackSaver(storage);
+        AtomicReference<ClubTrack> latest = new AtomicReference<>(new ClubTrack());
+
+        Future<?> deferred = saver.submitLater(latest::get, filePath, 10);
+        latest.set(withPersons());
+        deferred.get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        saver.flush(TIMEOUT_MILLIS);
+
+        assertEquals(withPersons(), storage.readClubTrack(filePath).get());
+    }
+
+    @Test
+    public void submitLater_cancelled_notSaved() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        AsyncClubTrackSaver saver = new AsyncClubTrackSaver(new JsonClubTrackStorage(filePath));
+
+        saver.submitLater(ClubTrack::new, filePath, TIMEOUT_MILLIS).cancel(false);
+        saver.shutdown(TIMEOUT_MILLIS);
+
+        assertFalse(Files.exists(filePath));
+    }
+
+    @Test
+    public void flush_saveFailed_rethrowsUntilSaveSucceeds() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        boolean[] isDiskFull = {true};
+        JsonClubTrackStorage storage = new JsonClubTrackStorage(filePath) {
+            @Override
+            public void saveClubTrack(ReadOnlyClubTrack addressBook, Path filePath) throws IOException {
+                if (isDiskFull[0]) {
+                    throw new IOException("disk full");
+                }
+                super.saveClubTrack(addressBook, filePath);
+            }
+        };
+        AsyncClubTrackSaver saver = new AsyncClubTrackSaver(storage);
+
+        saver.submit(new ClubTrack(), filePath);
+        assertThrows(IOException.class, "disk full", () -> saver.flush(TIMEOUT_MILLIS));
+        assertThrows(IOException.class, "disk full", saver::checkForFailure);
+
+        isDiskFull[0] = false;
+        ClubTrack clubTrack = withPersons();
+        saver.submit(clubTrack, filePath);
+        saver.flush(TIMEOUT_MILLIS);
+        saver.checkForFailure();
+        assertEquals(clubTrack, storage.readClubTrack(filePath).get());
+    }
+
+    private static ClubTrack withPersons() {
+        ClubTrack clubTrack = new ClubTrack();
+        clubTrack.addPerson(ALICE);
+        clubTrack.addPerson(BENSON);
+        return clubTrack;
+    }
+}
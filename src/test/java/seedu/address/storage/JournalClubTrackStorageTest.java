@@ -0,0 +1,228 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ClubTrack;
+import seedu.address.model.ReadOnlyClubTrack;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournalClubTrackStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path journalPath;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("clubtrack.json");
+        journalPath = JournalClubTrackStorage.getJournalPath(filePath);
+    }
+
+    @Test
+    public void save_smallChanges_appendsToJournalOnly() throws Exception {
+        JournalClubTrackStorage storage = new JournalClubTrackStorage(filePath);
+        ClubTrack original = getTypicalAddressBook();
+        storage.saveClubTrack(original, filePath);
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        ClubTrack edited = new ClubTrack(original);
+        edited.setPerson(ALICE, new PersonBuilder(ALICE).withPoints(10).build());
+        storage.saveClubTrack(edited, filePath);
+        edited = new ClubTrack(edited);
+        edited.removePerson(BENSON);
+        edited.addPerson(HOON);
+        storage.saveClubTrack(edited, filePath);
+
+        assertTrue(Arrays.equals(snapshot, Files.readAllBytes(filePath)));
+        assertEquals(4, Files.readAllLines(journalPath).size());
+        assertEquals(edited, new JournalClubTrackStorage(filePath).readClubTrack(filePath).get());
+    }
+
+    @Test
+    public void save_unchangedData_writesNothing() throws Exception {
+        JournalClubTrackStorage storage = new JournalClubTrackStorage(filePath);
+        ClubTrack original = getTypicalAddressBook();
+        storage.saveClubTrack(original, filePath);
+
+        storage.saveClubTrack(new ClubTrack(original), filePath);
+
+        assertFalse(Files.exists(journalPath));
+    }
+
+    @Test
+    public void save_journalOverThreshold_compactsIntoSnapshot() throws Exception {
+        JournalClubTrackStorage storage = new JournalClubTrackStorage(filePath, 0);
+        ClubTrack clubTrack = getTypicalAddressBook();
+        storage.saveClubTrack(clubTrack, filePath);
+        clubTrack = new ClubTrack(clubTrack);
+        clubTrack.setPerson(ALICE, new PersonBuilder(ALICE).withPoints(10).build());
+        storage.saveClubTrack(clubTrack, filePath);
+        assertTrue(Files.exists(journalPath));
+
+        clubTrack = new ClubTrack(clubTrack);
+        clubTrack.removePerson(CARL);
+        storage.saveClubTrack(clubTrack, filePath);
+
+        assertFalse(Files.exists(journalPath));
+        assertEquals(clubTrack, new JsonClubTrackStorage(filePath).readClubTrack(filePath).get());
+    }
+
+    @Test
+    public void read_journalOfOlderSnapshot_ignored() throws Exception {
+        JournalClubTrackStorage storage = new JournalClubTrackStorage(filePath);
+        ClubTrack clubTrack = getTypicalAddressBook();
+        storage.saveClubTrack(clubTrack, filePath);
+        ClubTrack edited = new ClubTrack(clubTrack);
+        edited.removePerson(ALICE);
+        storage.saveClubTrack(edited, filePath);
+
+        ClubTrack replaced = new ClubTrack();
+        replaced.addPerson(HOON);
+        new JsonClubTrackStorage(filePath).saveClubTrack(replaced, filePath);
+        byte[] journal = Files.readAllBytes(journalPath);
+
+        assertEquals(replaced, new JournalClubTrackStorage(filePath).readClubTrack(filePath).get());
+        assertFalse(Files.exists(journalPath));
+        assertTrue(Arrays.equals(journal, Files.readAllBytes(getOnlyStaleJournal())));
+    }
+
+    @Test
+    public void read_journalOfSnapshotWithSameStamp_notReplayed() throws Exception {
+        JournalClubTrackStorage storage = new JournalClubTrackStorage(filePath);
+        ClubTrack clubTrack = getTypicalAddressBook();
+        storage.saveClubTrack(clubTrack, filePath);
+        ClubTrack edited = new ClubTrack(clubTrack);
+        edited.removePerson(ALICE);
+        storage.saveClubTrack(edited, filePath);
+        byte[] journal = Files.readAllBytes(journalPath);
+        FileTime modified = Files.getLastModifiedTime(filePath);
+        long size = Files.size(filePath);
+
+        // The same data saved again has the same size, and the old modification time is restored
+        new JournalClubTrackStorage(filePath).saveClubTrack(clubTrack, filePath);
+        Files.setLastModifiedTime(filePath, modified);
+        Files.write(journalPath, journal);
+        assertEquals(size, Files.size(filePath));
+
+        assertEquals(clubTrack, new JournalClubTrackStorage(filePath).readClubTrack(filePath).get());
+        assertTrue(Files.exists(getOnlyStaleJournal()));
+    }
+
+    @Test
+    public void read_interruptedAppend_keepsCompleteRecordsAndCompactsOnNextSave() throws Exception {
+        JournalClubTrackStorage storage = new JournalClubTrackStorage(filePath);
+        ClubTrack clubTrack = getTypicalAddressBook();
+        storage.saveClubTrack(clubTrack, filePath);
+        ClubTrack edited = new ClubTrack(clubTrack);
+        edited.removePerson(ALICE);
+        storage.saveClubTrack(edited, filePath);
+        Files.write(journalPath, "{\"op\":\"ADD\",\"pers".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        JournalClubTrackStorage reopened = new JournalClubTrackStorage(filePath);
+        ReadOnlyClubTrack read = reopened.readClubTrack(filePath).get();
+        assertEquals(edited, read);
+
+        reopened.saveClubTrack(read, filePath);
+        assertFalse(Files.exists(journalPath));
+        assertEquals(edited, new JsonClubTrackStorage(filePath).readClubTrack(filePath).get());
+    }
+
+    @Test
+    public void read_emailsMovedBetweenMembers_replaysWholeSave() throws Exception {
+        JournalClubTrackStorage storage = new JournalClubTrackStorage(filePath);
+        ClubTrack clubTrack = getTypicalAddressBook();
+        storage.saveClubTrack(clubTrack, filePath);
+
+        // ALICE takes BENSON's email, which BENSON gave up for a new one in the same save
+        ClubTrack edited = new ClubTrack(clubTrack);
+        edited.setPerson(BENSON, new PersonBuilder(BENSON).withEmail("benson@example.org").build());
+        edited.setPerson(ALICE, new PersonBuilder(ALICE).withEmail(BENSON.getEmail().value).build());
+        storage.saveClubTrack(edited, filePath);
+
+        assertTrue(Files.exists(journalPath));
+        assertEquals(edited, new JournalClubTrackStorage(filePath).readClubTrack(filePath).get());
+    }
+
+    @Test
+    public void read_emailOfDeletedMemberReused_replaysWholeSave() throws Exception {
+        JournalClubTrackStorage storage = new JournalClubTrackStorage(filePath);
+        ClubTrack clubTrack = getTypicalAddressBook();
+        storage.saveClubTrack(clubTrack, filePath);
+
+        // The edit of ALICE is recorded before the deletion of BENSON
+        ClubTrack edited = new ClubTrack(clubTrack);
+        edited.removePerson(BENSON);
+        edited.setPerson(ALICE, new PersonBuilder(ALICE).withEmail(BENSON.getEmail().value).build());
+        storage.saveClubTrack(edited, filePath);
+
+        assertTrue(Files.exists(journalPath));
+        assertEquals(edited, new JournalClubTrackStorage(filePath).readClubTrack(filePath).get());
+    }
+
+    @Test
+    public void read_journalLeavesDuplicates_throwsDataLoadingException() throws Exception {
+        JournalClubTrackStorage storage = new JournalClubTrackStorage(filePath);
+        ClubTrack clubTrack = getTypicalAddressBook();
+        storage.saveClubTrack(clubTrack, filePath);
+        ClubTrack edited = new ClubTrack(clubTrack);
+        edited.removePerson(ALICE);
+        storage.saveClubTrack(edited, filePath);
+        Files.write(journalPath, (JsonUtil.toCompactJsonString(JsonAdaptedJournalRecord.add(CARL)) + "\n")
+                .getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        assertThrows(DataLoadingException.class, () -> new JournalClubTrackStorage(filePath).readClubTrack(filePath));
+    }
+
+    @Test
+    public void diff_reorderedMembers_returnsNull() {
+        assertNull(JournalClubTrackStorage.diff(Arrays.asList(ALICE, BENSON), Arrays.asList(BENSON, ALICE)));
+    }
+
+    @Test
+    public void diff_editDeleteAndAppend_recordsEachChange() {
+        // ALICE is edited into HOON, BENSON is deleted and a copy of BENSON is appended
+        Person bensonCopy = new PersonBuilder(BENSON).build();
+        assertEquals(3, JournalClubTrackStorage.diff(Arrays.asList(ALICE, BENSON, CARL),
+                Arrays.asList(HOON, CARL, bensonCopy)).size());
+    }
+
+    private Path getOnlyStaleJournal() throws IOException {
+        try (Stream<Path> files = Files.list(testFolder)) {
+            List<Path> stale = files
+                    .filter(path -> path.toString().endsWith(JournalClubTrackStorage.STALE_JOURNAL_SUFFIX))
+                    .collect(Collectors.toList());
+            assertEquals(1, stale.size());
+            return stale.get(0);
+        }
+    }
+}
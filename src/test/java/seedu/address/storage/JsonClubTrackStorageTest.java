@@ -9,8 +9,10 @@ import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -86,6 +88,41 @@ public class JsonClubTrackStorageTest {
 
     }
 
+    @Test
+    public void readClubTrack_typicalPersonsFile_success() throws Exception {
+        Path filePath = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest",
+                "typicalPersonsAddressBook.json");
+        assertEquals(getTypicalAddressBook(), new JsonClubTrackStorage(filePath).readClubTrack().get());
+    }
+
+    @Test
+    public void readClubTrack_duplicatePersonsFile_throwDataLoadingException() {
+        Path filePath = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest",
+                "duplicatePersonAddressBook.json");
+        assertThrows(DataLoadingException.class, () -> new JsonClubTrackStorage(filePath).readClubTrack());
+    }
+
+    @Test
+    public void readClubTrack_truncatedFile_throwDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        new JsonClubTrackStorage(filePath).saveClubTrack(getTypicalAddressBook());
+        byte[] content = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(content, content.length - 2));
+
+        assertThrows(DataLoadingException.class, () -> new JsonClubTrackStorage(filePath).readClubTrack());
+    }
+
+    @Test
+    public void saveClubTrack_compact_writesSingleLineThatReadsBack() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonClubTrackStorage storage = new JsonClubTrackStorage(filePath, false);
+
+        storage.saveClubTrack(getTypicalAddressBook());
+
+        assertEquals(1, Files.readAllLines(filePath).size());
+        assertEquals(getTypicalAddressBook(), new JsonClubTrackStorage(filePath).readClubTrack().get());
+    }
+
     @Test
     public void saveAddressBook_nullClubTrack_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveClubTrack(null, "SomeFile.json"));
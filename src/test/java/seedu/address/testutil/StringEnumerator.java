@@ -0,0 +1,32 @@
+package seedu.address.testutil;
+
+import java.util.function.Consumer;
+
+/**
+ * Enumerates every string over a small alphabet, for exhaustive tests of string validators.
+ */
+public class StringEnumerator {
+
+    /**
+     * Passes every string of at most {@code maxLength} characters from {@code alphabet} to {@code action},
+     * including the empty string.
+     */
+    public static void forEachString(String alphabet, int maxLength, Consumer<String> action) {
+        char[] buffer = new char[maxLength];
+        for (int length = 0; length <= maxLength; length++) {
+            forEachString(alphabet, buffer, 0, length, action);
+        }
+    }
+
+    private static void forEachString(String alphabet, char[] buffer, int position, int length,
+            Consumer<String> action) {
+        if (position == length) {
+            action.accept(new String(buffer, 0, length));
+            return;
+        }
+        for (int i = 0; i < alphabet.length(); i++) {
+            buffer[position] = alphabet.charAt(i);
+            forEachString(alphabet, buffer, position + 1, length, action);
+        }
+    }
+}
@@ -1,12 +1,18 @@
 package seedu.address.ui;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.BeforeAll;
@@ -15,8 +21,12 @@ import org.junit.jupiter.api.Test;
 import javafx.application.Platform;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import javafx.scene.Node;
+import javafx.scene.control.Label;
+import javafx.scene.layout.FlowPane;
 import javafx.stage.Stage;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.logic.CommandQueue;
 import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -27,6 +37,7 @@ import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
+import seedu.address.testutil.PersonBuilder;
 
 /**
  * Smoke test to verify UI components instantiate and load FXML without error.
@@ -75,23 +86,33 @@ public class UiComponentSmokeTest {
 
     private void doWithJavaFx(Runnable action) throws InterruptedException {
         CountDownLatch latch = new CountDownLatch(1);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
         Platform.runLater(() -> {
             try {
                 action.run();
-            } catch (UnsupportedOperationException ex) {
-                // Abort (skip) rather than fail—useful for stubs/not-yet-implemented ops on CI-like envs
-                Assumptions.assumeTrue(false, "Skipped due to UnsupportedOperationException: " + ex.getMessage());
+            } catch (Throwable t) {
+                failure.set(t);
             } finally {
                 latch.countDown();
             }
         });
         latch.await();
+        // Rethrown on the test thread, since JUnit does not see what is thrown on the FX thread
+        Throwable thrown = failure.get();
+        if (thrown instanceof UnsupportedOperationException) {
+            // Abort (skip) rather than fail—useful for stubs/not-yet-implemented ops on CI-like envs
+            Assumptions.assumeTrue(false, "Skipped due to UnsupportedOperationException: " + thrown.getMessage());
+        } else if (thrown instanceof Error) {
+            throw (Error) thrown;
+        } else if (thrown instanceof RuntimeException) {
+            throw (RuntimeException) thrown;
+        }
     }
 
     @Test
     public void commandBoxConstructs() throws Exception {
         doWithJavaFx(() -> {
-            CommandBox.CommandExecutor exec = input -> null;
+            CommandBox.CommandExecutor exec = input -> CompletableFuture.completedFuture(null);
             CommandBox cb = new CommandBox(exec);
             assertNotNull(cb.getRoot());
         });
@@ -113,6 +134,61 @@ public class UiComponentSmokeTest {
         });
     }
 
+    @Test
+    public void personCardRebindsInPlace() throws Exception {
+        doWithJavaFx(() -> {
+            PersonCard pc = new PersonCard();
+            Person tagged = new PersonBuilder().withTags("exco", "dance").build();
+            pc.setPerson(tagged, 1);
+            Object root = pc.getRoot();
+
+            pc.setPerson(testPerson, 2);
+            assertSame(root, pc.getRoot());
+            assertSame(testPerson, pc.getPerson());
+        });
+    }
+
+    @Test
+    public void personListCellRebindsSameCard() throws Exception {
+        doWithJavaFx(() -> {
+            PersonListPanel panel = new PersonListPanel(FXCollections.observableArrayList());
+            PersonListPanel.PersonListViewCell cell = panel.new PersonListViewCell();
+            Person tagged = new PersonBuilder().withName("Alice Tan").withTags("exco", "dance").build();
+            cell.updateIndex(0);
+            cell.updateItem(tagged, false);
+            Node card = cell.getGraphic();
+            assertEquals("1. ", getLabelText(card, "#id"));
+            assertEquals("Alice Tan", getLabelText(card, "#name"));
+            assertEquals(List.of("dance", "exco"), getVisibleTags(card));
+
+            cell.updateIndex(1);
+            cell.updateItem(testPerson, false);
+            assertSame(card, cell.getGraphic());
+            assertEquals("2. ", getLabelText(card, "#id"));
+            assertEquals("Test One", getLabelText(card, "#name"));
+            assertEquals("99999999", getLabelText(card, "#phone"));
+            assertEquals("test@a.com", getLabelText(card, "#email"));
+            assertEquals("123 Test St.", getLabelText(card, "#address"));
+            assertEquals("Y2 · TestFaculty", getLabelText(card, "#meta"));
+            assertEquals(List.of(), getVisibleTags(card));
+
+            cell.updateItem(tagged, false);
+            assertSame(card, cell.getGraphic());
+            assertEquals(List.of("dance", "exco"), getVisibleTags(card));
+        });
+    }
+
+    private static String getLabelText(Node card, String selector) {
+        return ((Label) card.lookup(selector)).getText();
+    }
+
+    private static List<String> getVisibleTags(Node card) {
+        return ((FlowPane) card.lookup("#tags")).getChildren().stream()
+                .filter(Node::isVisible)
+                .map(tag -> ((Label) tag).getText())
+                .collect(Collectors.toList());
+    }
+
     @Test
     public void resultDisplayConstructsAndSetsFeedback() throws Exception {
         doWithJavaFx(() -> {
@@ -128,6 +204,7 @@ public class UiComponentSmokeTest {
             StatusBarFooter sbf = new StatusBarFooter(Paths.get("dummy/path"));
             assertNotNull(sbf.getRoot());
             sbf.setSaveLocation(Paths.get("other/location"));
+            sbf.setAttendance(1, 2, 3);
         });
     }
 
@@ -145,7 +222,7 @@ public class UiComponentSmokeTest {
     public void mainWindowConstructsWithLogicStub() throws Exception {
         doWithJavaFx(() -> {
             Logic logic = new LogicStub(testPerson);
-            MainWindow mw = new MainWindow(new Stage(), logic);
+            MainWindow mw = new MainWindow(new Stage(), logic, new CommandQueue(logic, Platform::runLater));
             assertNotNull(mw.getPrimaryStage());
         });
     }
@@ -154,7 +231,7 @@ public class UiComponentSmokeTest {
     public void uiManagerStarts() throws Exception {
         doWithJavaFx(() -> {
             Logic logic = new LogicStub(testPerson);
-            UiManager ui = new UiManager(logic);
+            UiManager ui = new UiManager(logic, new CommandQueue(logic, Platform::runLater));
             ui.start(new Stage());
         });
     }
@@ -174,6 +251,31 @@ public class UiComponentSmokeTest {
             return new CommandResult("ok");
         }
 
+        @Override
+        public void startLoading() {
+            // no-op for stub
+        }
+
+        @Override
+        public void finishLoading(ReadOnlyClubTrack loadedData) {
+            // no-op for stub
+        }
+
+        @Override
+        public boolean isLoading() {
+            return false;
+        }
+
+        @Override
+        public void flush() {
+            // no-op for stub
+        }
+
+        @Override
+        public void shutdown() {
+            // no-op for stub
+        }
+
         @Override
         public ReadOnlyClubTrack getAddressBook() {
             // Provide a minimal ReadOnlyClubTrack that exposes the persons list
@@ -185,6 +287,21 @@ public class UiComponentSmokeTest {
             return persons;
         }
 
+        @Override
+        public int getPresentCount() {
+            return 0;
+        }
+
+        @Override
+        public int getAbsentCount() {
+            return 0;
+        }
+
+        @Override
+        public int getUnmarkedCount() {
+            return persons.size();
+        }
+
         @Override
         public Path getAddressBookFilePath() {
             return Paths.get("clubtrack.json");